@@ -0,0 +1,242 @@
+package me.pieralini.educationbase.benchmark;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import me.pieralini.educationbase.config.ConfigManager;
+import me.pieralini.educationbase.config.ConfigManager.CacheConfig;
+import me.pieralini.educationbase.config.ConfigManager.DatabaseConfig;
+import me.pieralini.educationbase.config.DatabaseManager;
+import me.pieralini.educationbase.model.Curso;
+import me.pieralini.educationbase.model.Faculdade;
+import me.pieralini.educationbase.repository.CursoRepository;
+import me.pieralini.educationbase.repository.FaculdadeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public final class BenchmarkDatabase {
+
+    private static final Logger logger = LoggerFactory.getLogger(BenchmarkDatabase.class);
+    public static final String DATABASE_NAME = "educationbase_db";
+    private static final int BATCH_SIZE = 1000;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private static DB embedded;
+    private static final List<DB> embeddedReplicas = new ArrayList<>();
+    private static final List<DatabaseConfig> replicas = new ArrayList<>();
+    private static boolean started;
+
+    private BenchmarkDatabase() {}
+
+    public static synchronized void start() throws Exception {
+        if (started) {
+            return;
+        }
+
+        String host = System.getProperty("bench.db.host");
+        int port;
+        String user;
+        String password;
+        if (host == null) {
+            embedded = startEmbedded();
+            host = "localhost";
+            port = embedded.getConfiguration().getPort();
+            user = "root";
+            password = "";
+
+            int replicaCount = Integer.getInteger("bench.db.replicas", 0);
+            for (int i = 0; i < replicaCount; i++) {
+                DB replica = startEmbedded();
+                embeddedReplicas.add(replica);
+                int replicaPort = replica.getConfiguration().getPort();
+                applySchema(host, replicaPort, user, password);
+                replicas.add(new DatabaseConfig(host, replicaPort, user, password, DATABASE_NAME));
+            }
+        } else {
+            port = Integer.getInteger("bench.db.port", 3306);
+            user = System.getProperty("bench.db.user", "root");
+            password = System.getProperty("bench.db.password", "");
+        }
+
+        applySchema(host, port, user, password);
+
+        ConfigManager config = ConfigManager.getInstance();
+        config.setDatabaseConfig(new DatabaseConfig(host, port, user, password, DATABASE_NAME));
+        config.setReplicaConfigs(new ArrayList<>(replicas));
+        config.setCacheConfig(new CacheConfig(false, CacheConfig.DEFAULT_MAX_SIZE, CacheConfig.DEFAULT_TTL_SECONDS));
+        DatabaseManager.getInstance().initialize(config);
+        started = true;
+    }
+
+    public static void reseed(int scale) throws Exception {
+        truncate();
+        CursoRepository.getInstance().insertAll(cursos(scale), BATCH_SIZE);
+        FaculdadeRepository.getInstance().insertAll(faculdades(scale), BATCH_SIZE);
+        syncReplicas();
+    }
+
+    public static void syncReplicas() throws SQLException {
+        for (DatabaseConfig replica : replicas) {
+            String url = String.format("jdbc:mysql://%s:%d/%s?useSSL=false&allowPublicKeyRetrieval=true&rewriteBatchedStatements=true",
+                    replica.host(), replica.port(), replica.name());
+            try (Connection source = DatabaseManager.getInstance().getConnection();
+                 Connection target = DriverManager.getConnection(url, replica.user(), replica.password())) {
+                copyTable(source, target, "cursos");
+                copyTable(source, target, "faculdades");
+            }
+        }
+    }
+
+    private static void copyTable(Connection source, Connection target, String table) throws SQLException {
+        try (Statement truncate = target.createStatement()) {
+            truncate.execute("TRUNCATE TABLE " + table);
+        }
+        try (Statement select = source.createStatement();
+             ResultSet rs = select.executeQuery("SELECT * FROM " + table)) {
+            int columns = rs.getMetaData().getColumnCount();
+            String placeholders = String.join(", ", Collections.nCopies(columns, "?"));
+            try (PreparedStatement insert = target.prepareStatement("INSERT INTO " + table + " VALUES (" + placeholders + ")")) {
+                int pending = 0;
+                while (rs.next()) {
+                    for (int i = 1; i <= columns; i++) {
+                        insert.setObject(i, rs.getObject(i));
+                    }
+                    insert.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        insert.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    insert.executeBatch();
+                }
+            }
+        }
+    }
+
+    private static DB startEmbedded() throws Exception {
+        DBConfigurationBuilder builder = DBConfigurationBuilder.newBuilder();
+        builder.setPort(0);
+        if ("root".equals(System.getProperty("user.name"))) {
+            builder.addArg("--user=root");
+        }
+        DB db = DB.newEmbeddedDB(builder.build());
+        db.start();
+        return db;
+    }
+
+    public static void truncate() throws SQLException {
+        try (Connection conn = DatabaseManager.getInstance().getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("TRUNCATE TABLE cursos");
+            stmt.execute("TRUNCATE TABLE faculdades");
+        }
+    }
+
+    public static List<Curso> cursos(int scale) throws IOException {
+        List<Curso> base = read("data/cursos.json", new TypeReference<>() {});
+        List<Curso> result = new ArrayList<>(scale);
+        for (int i = 0; i < scale; i++) {
+            Curso source = base.get(i % base.size());
+            result.add(Curso.builder()
+                    .nome(source.getNome() + " #" + i)
+                    .descricao(source.getDescricao())
+                    .plataforma(source.getPlataforma())
+                    .build());
+        }
+        return result;
+    }
+
+    public static List<Faculdade> faculdades(int scale) throws IOException {
+        List<Faculdade> base = read("data/faculdades.json", new TypeReference<>() {});
+        List<Faculdade> result = new ArrayList<>(scale);
+        for (int i = 0; i < scale; i++) {
+            Faculdade source = base.get(i % base.size());
+            result.add(Faculdade.builder()
+                    .nomeCurso(source.getNomeCurso() + " #" + i)
+                    .tipoGraduacao(source.getTipoGraduacao())
+                    .duracaoSemestres(source.getDuracaoSemestres())
+                    .build());
+        }
+        return result;
+    }
+
+    public static byte[] cursosJson(int scale) throws IOException {
+        return objectMapper.writeValueAsBytes(cursos(scale));
+    }
+
+    public static ObjectMapper objectMapper() {
+        return objectMapper;
+    }
+
+    private static void applySchema(String host, int port, String user, String password) throws Exception {
+        String schema;
+        try (InputStream is = BenchmarkDatabase.class.getClassLoader().getResourceAsStream("schema.sql")) {
+            if (is == null) {
+                throw new IOException("Recurso não encontrado: schema.sql");
+            }
+            schema = new String(is.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        String url = String.format("jdbc:mysql://%s:%d/?useSSL=false&allowPublicKeyRetrieval=true", host, port);
+        try (Connection conn = DriverManager.getConnection(url, user, password);
+             Statement stmt = conn.createStatement()) {
+            for (String sql : schema.split(";")) {
+                if (!sql.isBlank()) {
+                    stmt.execute(sql);
+                }
+            }
+        }
+    }
+
+    private static <T> T read(String resource, TypeReference<T> type) throws IOException {
+        try (InputStream is = BenchmarkDatabase.class.getClassLoader().getResourceAsStream(resource)) {
+            if (is == null) {
+                throw new IOException("Recurso não encontrado: " + resource);
+            }
+            return objectMapper.readValue(is, type);
+        }
+    }
+
+    public static synchronized void stop() {
+        if (!started) {
+            return;
+        }
+        DatabaseManager.getInstance().close();
+        if (embedded != null) {
+            try {
+                embedded.stop();
+            } catch (Exception e) {
+                logger.error("Erro ao encerrar banco embarcado: {}", e.getMessage());
+            }
+            embedded = null;
+        }
+        for (DB replica : embeddedReplicas) {
+            try {
+                replica.stop();
+            } catch (Exception e) {
+                logger.error("Erro ao encerrar réplica embarcada: {}", e.getMessage());
+            }
+        }
+        embeddedReplicas.clear();
+        replicas.clear();
+        started = false;
+    }
+}
@@ -0,0 +1,53 @@
+package me.pieralini.educationbase.benchmark;
+
+import me.pieralini.educationbase.loader.DataLoader;
+import me.pieralini.educationbase.loader.ExportFormat;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ExportBenchmark {
+
+    @Param({"1000", "10000"})
+    public int scale;
+
+    @Param({"JSON", "NDJSON", "BINARY"})
+    public ExportFormat format;
+
+    @Param({"false", "true"})
+    public boolean gzip;
+
+    private DataLoader dataLoader;
+    private Path exportDir;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        BenchmarkDatabase.start();
+        BenchmarkDatabase.reseed(scale);
+        dataLoader = new DataLoader();
+        exportDir = Files.createTempDirectory("educationbase-bench");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkDatabase.stop();
+    }
+
+    @Benchmark
+    public void exportStreaming() {
+        dataLoader.exportStreaming(exportDir, format, gzip);
+    }
+
+    @Benchmark
+    public void exportParallel() {
+        dataLoader.exportParallel(exportDir, format, gzip);
+    }
+}
@@ -0,0 +1,92 @@
+package me.pieralini.educationbase.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import me.pieralini.educationbase.loader.BinaryCodecs;
+import me.pieralini.educationbase.loader.BinaryReader;
+import me.pieralini.educationbase.loader.BinaryWriter;
+import me.pieralini.educationbase.loader.DataLoader;
+import me.pieralini.educationbase.loader.StreamingImporter;
+import me.pieralini.educationbase.model.Curso;
+import me.pieralini.educationbase.model.Faculdade;
+import me.pieralini.educationbase.repository.CursoRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ImportBenchmark {
+
+    @Param({"1000", "10000"})
+    public int scale;
+
+    private DataLoader dataLoader;
+    private byte[] cursosJson;
+    private Path dataDir;
+    private Path cursosJsonFile;
+    private Path cursosBinaryFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        BenchmarkDatabase.start();
+        dataLoader = new DataLoader();
+        cursosJson = BenchmarkDatabase.cursosJson(scale);
+        dataDir = Files.createTempDirectory("educationbase-bench");
+        cursosJsonFile = Files.write(dataDir.resolve("cursos.json"), cursosJson);
+        cursosBinaryFile = dataDir.resolve("cursos.ebin");
+        List<Curso> cursos = BenchmarkDatabase.objectMapper().readValue(cursosJson, new TypeReference<>() {});
+        try (BinaryWriter<Curso> writer = BinaryWriter.open(cursosBinaryFile, BinaryCodecs.CURSO)) {
+            for (Curso curso : cursos) {
+                writer.write(curso);
+            }
+        }
+        try (BinaryWriter<Faculdade> writer = BinaryWriter.open(dataDir.resolve("faculdades.ebin"), BinaryCodecs.FACULDADE)) {
+            for (Faculdade faculdade : BenchmarkDatabase.faculdades(scale)) {
+                writer.write(faculdade);
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void clearTables() throws Exception {
+        BenchmarkDatabase.truncate();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkDatabase.stop();
+    }
+
+    @Benchmark
+    public void loadAllBinary() {
+        dataLoader.loadAllBinary(dataDir);
+    }
+
+    @Benchmark
+    public List<Curso> decodeJson() throws IOException {
+        return BenchmarkDatabase.objectMapper().readValue(cursosJsonFile.toFile(), new TypeReference<>() {});
+    }
+
+    @Benchmark
+    public List<Curso> decodeBinary() throws IOException {
+        try (BinaryReader<Curso> reader = BinaryReader.open(cursosBinaryFile, BinaryCodecs.CURSO)) {
+            return reader.readAll();
+        }
+    }
+
+    @Benchmark
+    public StreamingImporter.ImportStats streamingImport() throws IOException {
+        StreamingImporter<Curso> importer = new StreamingImporter<>(BenchmarkDatabase.objectMapper(), Curso.class,
+                curso -> {}, CursoRepository.getInstance(), 1000, 10000, 2);
+        return importer.importFrom(new ByteArrayInputStream(cursosJson));
+    }
+}
@@ -0,0 +1,77 @@
+package me.pieralini.educationbase.benchmark;
+
+import me.pieralini.educationbase.model.Curso;
+import me.pieralini.educationbase.repository.CursoRepository;
+import me.pieralini.educationbase.repository.FaculdadeRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryBenchmark {
+
+    @Param({"1000", "10000"})
+    public int scale;
+
+    private CursoRepository cursoRepository;
+    private FaculdadeRepository faculdadeRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        BenchmarkDatabase.start();
+        BenchmarkDatabase.reseed(scale);
+        cursoRepository = CursoRepository.getInstance();
+        faculdadeRepository = FaculdadeRepository.getInstance();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkDatabase.stop();
+    }
+
+    @Benchmark
+    public Optional<Curso> findById() {
+        return cursoRepository.findById(ThreadLocalRandom.current().nextInt(1, scale + 1));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Curso> findAll() {
+        return cursoRepository.findAll();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Curso> findAllResumo() {
+        return cursoRepository.findAll(CursoRepository.RESUMO);
+    }
+
+    @Benchmark
+    public Optional<Curso> save() {
+        return cursoRepository.save(Curso.builder()
+                .nome("Benchmark " + System.nanoTime())
+                .descricao("Curso criado pelo benchmark")
+                .plataforma("JMH")
+                .build());
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Curso> searchByNome() {
+        return cursoRepository.searchByNome("Java");
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Object searchByNomeCurso() {
+        return faculdadeRepository.searchByNomeCurso("Engenharia");
+    }
+}
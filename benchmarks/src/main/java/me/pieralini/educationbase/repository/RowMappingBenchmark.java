@@ -0,0 +1,69 @@
+package me.pieralini.educationbase.repository;
+
+import me.pieralini.educationbase.benchmark.BenchmarkDatabase;
+import me.pieralini.educationbase.config.DatabaseManager;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RowMappingBenchmark {
+
+    @Param({"1000", "10000"})
+    public int scale;
+
+    private Connection connection;
+    private Statement statement;
+    private ResultSet cursos;
+    private ResultSet faculdades;
+    private CursoRepository cursoRepository;
+    private FaculdadeRepository faculdadeRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        BenchmarkDatabase.start();
+        BenchmarkDatabase.reseed(scale);
+        cursoRepository = CursoRepository.getInstance();
+        faculdadeRepository = FaculdadeRepository.getInstance();
+
+        connection = DatabaseManager.getInstance().getConnection();
+        statement = connection.createStatement(ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
+        cursos = statement.executeQuery("SELECT * FROM cursos");
+        faculdades = connection.createStatement(ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY)
+                .executeQuery("SELECT * FROM faculdades");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+        BenchmarkDatabase.stop();
+    }
+
+    @Benchmark
+    public void mapCursos(Blackhole bh) throws SQLException {
+        cursos.beforeFirst();
+        RowMapper<?> mapper = cursoRepository.rowMapper(cursos);
+        while (cursos.next()) {
+            bh.consume(mapper.map(cursos));
+        }
+    }
+
+    @Benchmark
+    public void mapFaculdades(Blackhole bh) throws SQLException {
+        faculdades.beforeFirst();
+        RowMapper<?> mapper = faculdadeRepository.rowMapper(faculdades);
+        while (faculdades.next()) {
+            bh.consume(mapper.map(faculdades));
+        }
+    }
+}
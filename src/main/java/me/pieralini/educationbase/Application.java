@@ -2,12 +2,19 @@ package me.pieralini.educationbase;
 
 import me.pieralini.educationbase.config.ConfigManager;
 import me.pieralini.educationbase.config.DatabaseManager;
+import me.pieralini.educationbase.events.ChangeEventBus;
 import me.pieralini.educationbase.loader.DataLoader;
+import me.pieralini.educationbase.model.DataFingerprint;
+import me.pieralini.educationbase.repository.WriteBehindBuffer;
 import me.pieralini.educationbase.service.CursoService;
 import me.pieralini.educationbase.service.FaculdadeService;
+import me.pieralini.educationbase.snapshot.CatalogSnapshot;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 public class Application {
 
     private static final Logger logger = LoggerFactory.getLogger(Application.class);
@@ -18,17 +25,32 @@ public class Application {
         logger.info("=".repeat(60));
 
         try {
+            CompletableFuture<Map<String, DataFingerprint>> fingerprints =
+                    CompletableFuture.supplyAsync(DataLoader::fingerprintSources);
+
             ConfigManager config = ConfigManager.getInstance();
             logger.info("Aplicação: {} v{}", config.getApplicationConfig().name(), config.getApplicationConfig().version());
 
+            CatalogSnapshot snapshot = CatalogSnapshot.getInstance();
+            snapshot.load();
+
             DatabaseManager dbManager = DatabaseManager.getInstance();
             dbManager.initialize(config);
+            dbManager.warmUp();
 
             DataLoader dataLoader = new DataLoader();
-            dataLoader.loadAll();
+            dataLoader.loadAll(fingerprints.join());
+            snapshot.start();
 
             CursoService cursoService = new CursoService();
             FaculdadeService faculdadeService = new FaculdadeService();
+            CompletableFuture.runAsync(() -> {
+                cursoService.inicializarIndiceBusca();
+                faculdadeService.inicializarIndiceBusca();
+            }).exceptionally(e -> {
+                logger.warn("Falha ao construir índices de busca: {}", e.getMessage());
+                return null;
+            });
 
             logger.info("=".repeat(40));
             logger.info("Resumo dos dados:");
@@ -38,6 +60,9 @@ public class Application {
 
             Runtime.getRuntime().addShutdownHook(new Thread(() -> {
                 logger.info("Encerrando aplicação...");
+                WriteBehindBuffer.shutdownAll();
+                ChangeEventBus.getInstance().close();
+                snapshot.close();
                 dbManager.close();
             }));
 
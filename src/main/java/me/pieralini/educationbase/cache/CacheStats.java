@@ -0,0 +1,9 @@
+package me.pieralini.educationbase.cache;
+
+public record CacheStats(String name, long hits, long misses, long evictions, int size) {
+
+    public double hitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
@@ -12,6 +12,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 @Data
@@ -25,6 +28,17 @@ public class ConfigManager {
     private Map<String, Object> config;
     private ApplicationConfig applicationConfig;
     private DatabaseConfig databaseConfig;
+    private PoolConfig poolConfig;
+    private List<DatabaseConfig> replicaConfigs;
+    private ReadRoutingConfig readRoutingConfig;
+    private LoaderConfig loaderConfig;
+    private CacheConfig cacheConfig;
+    private RepositoryConfig repositoryConfig;
+    private MetricsConfig metricsConfig;
+    private SnapshotConfig snapshotConfig;
+    private WriteBehindConfig writeBehindConfig;
+    private TransactionConfig transactionConfig;
+    private ChangeEventsConfig changeEventsConfig;
 
     public static synchronized ConfigManager getInstance() {
         if (instance == null) {
@@ -93,13 +107,351 @@ public class ConfigManager {
                     (String) dbMap.get("name")
             );
         }
+
+        List<Map<String, Object>> replicaList = (List<Map<String, Object>>) config.get("replicas");
+        replicaConfigs = new ArrayList<>();
+        if (replicaList != null) {
+            DatabaseConfig primary = databaseConfig != null ? databaseConfig : defaultDatabaseConfig();
+            for (Map<String, Object> replicaMap : replicaList) {
+                replicaConfigs.add(new DatabaseConfig(
+                        (String) replicaMap.getOrDefault("host", primary.host()),
+                        intValue(replicaMap, "port", primary.port()),
+                        (String) replicaMap.getOrDefault("user", primary.user()),
+                        (String) replicaMap.getOrDefault("password", primary.password()),
+                        (String) replicaMap.getOrDefault("name", primary.name())
+                ));
+            }
+        }
+
+        Map<String, Object> routingMap = (Map<String, Object>) config.get("readRouting");
+        if (routingMap != null) {
+            Map<String, Object> hedgeMap = (Map<String, Object>) routingMap.getOrDefault("hedge", Map.of());
+            readRoutingConfig = new ReadRoutingConfig(
+                    intValue(routingMap, "healthCheckSeconds", ReadRoutingConfig.DEFAULT_HEALTH_CHECK_SECONDS),
+                    intValue(routingMap, "readAfterWriteMillis", ReadRoutingConfig.DEFAULT_READ_AFTER_WRITE_MILLIS),
+                    booleanValue(hedgeMap, "enabled", false),
+                    intValue(hedgeMap, "percentile", ReadRoutingConfig.DEFAULT_HEDGE_PERCENTILE),
+                    intValue(hedgeMap, "minDelayMillis", ReadRoutingConfig.DEFAULT_HEDGE_MIN_DELAY_MILLIS));
+        } else {
+            readRoutingConfig = ReadRoutingConfig.defaults();
+        }
+
+        Map<String, Object> poolMap = (Map<String, Object>) config.get("pool");
+        if (poolMap != null) {
+            Map<String, Object> autoTuneMap = (Map<String, Object>) poolMap.get("autoTune");
+            poolConfig = new PoolConfig(
+                    intValue(poolMap, "maximumPoolSize", PoolConfig.DEFAULT_MAXIMUM_POOL_SIZE),
+                    intValue(poolMap, "minimumIdle", PoolConfig.DEFAULT_MINIMUM_IDLE),
+                    intValue(poolMap, "connectionTimeoutMillis", PoolConfig.DEFAULT_CONNECTION_TIMEOUT_MILLIS),
+                    intValue(poolMap, "idleTimeoutMillis", PoolConfig.DEFAULT_IDLE_TIMEOUT_MILLIS),
+                    intValue(poolMap, "maxLifetimeMillis", PoolConfig.DEFAULT_MAX_LIFETIME_MILLIS),
+                    autoTuneMap != null
+                            ? new AutoTuneConfig(
+                                    booleanValue(autoTuneMap, "enabled", false),
+                                    intValue(autoTuneMap, "minSize", AutoTuneConfig.DEFAULT_MIN_SIZE),
+                                    intValue(autoTuneMap, "maxSize", AutoTuneConfig.DEFAULT_MAX_SIZE),
+                                    intValue(autoTuneMap, "intervalSeconds", AutoTuneConfig.DEFAULT_INTERVAL_SECONDS),
+                                    intValue(autoTuneMap, "targetWaitMillis", AutoTuneConfig.DEFAULT_TARGET_WAIT_MILLIS))
+                            : AutoTuneConfig.defaults());
+        } else {
+            poolConfig = PoolConfig.defaults();
+        }
+
+        Map<String, Object> loaderMap = (Map<String, Object>) config.get("loader");
+        loaderConfig = loaderMap != null
+                ? new LoaderConfig(
+                        intValue(loaderMap, "batchSize", LoaderConfig.DEFAULT_BATCH_SIZE),
+                        booleanValue(loaderMap, "streaming", false),
+                        intValue(loaderMap, "queueCapacity", LoaderConfig.DEFAULT_QUEUE_CAPACITY),
+                        intValue(loaderMap, "writerThreads", LoaderConfig.DEFAULT_WRITER_THREADS),
+                        booleanValue(loaderMap, "sync", false),
+                        booleanValue(loaderMap, "deleteMissing", false),
+                        intValue(loaderMap, "exportThreads", LoaderConfig.DEFAULT_EXPORT_THREADS))
+                : LoaderConfig.defaults();
+
+        Map<String, Object> cacheMap = (Map<String, Object>) config.get("cache");
+        cacheConfig = cacheMap != null
+                ? new CacheConfig(
+                        booleanValue(cacheMap, "enabled", true),
+                        intValue(cacheMap, "maxSize", CacheConfig.DEFAULT_MAX_SIZE),
+                        intValue(cacheMap, "ttlSeconds", CacheConfig.DEFAULT_TTL_SECONDS))
+                : CacheConfig.defaults();
+
+        Map<String, Object> repositoryMap = (Map<String, Object>) config.get("repository");
+        repositoryConfig = repositoryMap != null
+                ? new RepositoryConfig(booleanValue(repositoryMap, "upsert", false),
+                        intValue(repositoryMap, "summaryRefreshSeconds", RepositoryConfig.DEFAULT_SUMMARY_REFRESH_SECONDS))
+                : RepositoryConfig.defaults();
+
+        Map<String, Object> metricsMap = (Map<String, Object>) config.get("metrics");
+        metricsConfig = metricsMap != null
+                ? new MetricsConfig(
+                        booleanValue(metricsMap, "enabled", true),
+                        intValue(metricsMap, "slowQueryMillis", MetricsConfig.DEFAULT_SLOW_QUERY_MILLIS),
+                        booleanValue(metricsMap, "jmx", true))
+                : MetricsConfig.defaults();
+
+        Map<String, Object> snapshotMap = (Map<String, Object>) config.get("snapshot");
+        snapshotConfig = snapshotMap != null
+                ? new SnapshotConfig(
+                        booleanValue(snapshotMap, "enabled", false),
+                        (String) snapshotMap.getOrDefault("path", SnapshotConfig.DEFAULT_PATH),
+                        intValue(snapshotMap, "refreshSeconds", SnapshotConfig.DEFAULT_REFRESH_SECONDS))
+                : SnapshotConfig.defaults();
+
+        Map<String, Object> writeBehindMap = (Map<String, Object>) config.get("writeBehind");
+        writeBehindConfig = writeBehindMap != null
+                ? new WriteBehindConfig(
+                        booleanValue(writeBehindMap, "enabled", false),
+                        intValue(writeBehindMap, "maxPending", WriteBehindConfig.DEFAULT_MAX_PENDING),
+                        intValue(writeBehindMap, "batchSize", WriteBehindConfig.DEFAULT_BATCH_SIZE),
+                        intValue(writeBehindMap, "flushIntervalMillis", WriteBehindConfig.DEFAULT_FLUSH_INTERVAL_MILLIS),
+                        WriteBehindConfig.Durability.valueOf(((String) writeBehindMap.getOrDefault("durability",
+                                WriteBehindConfig.Durability.MEMORY.name())).toUpperCase(Locale.ROOT)),
+                        (String) writeBehindMap.getOrDefault("journalDir", WriteBehindConfig.DEFAULT_JOURNAL_DIR))
+                : WriteBehindConfig.defaults();
+
+        Map<String, Object> transactionMap = (Map<String, Object>) config.get("transaction");
+        transactionConfig = transactionMap != null
+                ? new TransactionConfig(Transaction.Isolation.valueOf(((String) transactionMap.getOrDefault("isolation",
+                        Transaction.Isolation.DEFAULT.name())).toUpperCase(Locale.ROOT)))
+                : TransactionConfig.defaults();
+
+        Map<String, Object> changeEventsMap = (Map<String, Object>) config.get("changeEvents");
+        changeEventsConfig = changeEventsMap != null
+                ? new ChangeEventsConfig(
+                        booleanValue(changeEventsMap, "enabled", false),
+                        intValue(changeEventsMap, "capacity", ChangeEventsConfig.DEFAULT_CAPACITY),
+                        intValue(changeEventsMap, "maxBatch", ChangeEventsConfig.DEFAULT_MAX_BATCH))
+                : ChangeEventsConfig.defaults();
+    }
+
+    private static int intValue(Map<String, Object> map, String key, int defaultValue) {
+        Object value = map.get(key);
+        return value instanceof Number number ? number.intValue() : defaultValue;
+    }
+
+    private static int positive(String key, int value, int defaultValue) {
+        return value > 0 ? value : invalid(key, value, defaultValue);
+    }
+
+    private static int nonNegative(String key, int value, int defaultValue) {
+        return value >= 0 ? value : invalid(key, value, defaultValue);
+    }
+
+    private static int invalid(String key, int value, int defaultValue) {
+        logger.warn("Valor inválido para {}: {}, usando o padrão {}", key, value, defaultValue);
+        return defaultValue;
+    }
+
+    private static boolean booleanValue(Map<String, Object> map, String key, boolean defaultValue) {
+        Object value = map.get(key);
+        return value instanceof Boolean bool ? bool : defaultValue;
     }
 
     private void loadDefaults() {
         applicationConfig = new ApplicationConfig("EducationBase", "1.0.0", "Sistema de gerenciamento educacional");
-        databaseConfig = new DatabaseConfig("localhost", 3306, "root", "", "educationbase_db");
+        databaseConfig = defaultDatabaseConfig();
+        poolConfig = PoolConfig.defaults();
+        replicaConfigs = new ArrayList<>();
+        readRoutingConfig = ReadRoutingConfig.defaults();
+        loaderConfig = LoaderConfig.defaults();
+        cacheConfig = CacheConfig.defaults();
+        repositoryConfig = RepositoryConfig.defaults();
+        metricsConfig = MetricsConfig.defaults();
+        snapshotConfig = SnapshotConfig.defaults();
+        writeBehindConfig = WriteBehindConfig.defaults();
+        transactionConfig = TransactionConfig.defaults();
+        changeEventsConfig = ChangeEventsConfig.defaults();
+    }
+
+    private static DatabaseConfig defaultDatabaseConfig() {
+        return new DatabaseConfig("localhost", 3306, "root", "", "educationbase_db");
     }
 
     public record ApplicationConfig(String name, String version, String description) {}
     public record DatabaseConfig(String host, int port, String user, String password, String name) {}
+
+    public record PoolConfig(int maximumPoolSize, int minimumIdle, int connectionTimeoutMillis,
+                             int idleTimeoutMillis, int maxLifetimeMillis, AutoTuneConfig autoTune) {
+        public static final int DEFAULT_MAXIMUM_POOL_SIZE = 10;
+        public static final int DEFAULT_MINIMUM_IDLE = 2;
+        public static final int DEFAULT_CONNECTION_TIMEOUT_MILLIS = 30000;
+        public static final int DEFAULT_IDLE_TIMEOUT_MILLIS = 30000;
+        public static final int DEFAULT_MAX_LIFETIME_MILLIS = 1800000;
+
+        public PoolConfig {
+            minimumIdle = nonNegative("pool.minimumIdle", minimumIdle, DEFAULT_MINIMUM_IDLE);
+            connectionTimeoutMillis = positive("pool.connectionTimeoutMillis", connectionTimeoutMillis,
+                    DEFAULT_CONNECTION_TIMEOUT_MILLIS);
+            idleTimeoutMillis = nonNegative("pool.idleTimeoutMillis", idleTimeoutMillis, DEFAULT_IDLE_TIMEOUT_MILLIS);
+            maxLifetimeMillis = nonNegative("pool.maxLifetimeMillis", maxLifetimeMillis, DEFAULT_MAX_LIFETIME_MILLIS);
+            autoTune = autoTune != null ? autoTune : AutoTuneConfig.defaults();
+        }
+
+        public static PoolConfig defaults() {
+            return new PoolConfig(DEFAULT_MAXIMUM_POOL_SIZE, DEFAULT_MINIMUM_IDLE, DEFAULT_CONNECTION_TIMEOUT_MILLIS,
+                    DEFAULT_IDLE_TIMEOUT_MILLIS, DEFAULT_MAX_LIFETIME_MILLIS, AutoTuneConfig.defaults());
+        }
+
+        public int effectiveMaximumPoolSize() {
+            return maximumPoolSize > 0 ? maximumPoolSize : Runtime.getRuntime().availableProcessors() * 2;
+        }
+    }
+
+    public record AutoTuneConfig(boolean enabled, int minSize, int maxSize, int intervalSeconds, int targetWaitMillis) {
+        public static final int DEFAULT_MIN_SIZE = 4;
+        public static final int DEFAULT_MAX_SIZE = 32;
+        public static final int DEFAULT_INTERVAL_SECONDS = 10;
+        public static final int DEFAULT_TARGET_WAIT_MILLIS = 5;
+
+        public AutoTuneConfig {
+            minSize = positive("pool.autoTune.minSize", minSize, DEFAULT_MIN_SIZE);
+            maxSize = positive("pool.autoTune.maxSize", maxSize, DEFAULT_MAX_SIZE);
+            intervalSeconds = positive("pool.autoTune.intervalSeconds", intervalSeconds, DEFAULT_INTERVAL_SECONDS);
+            targetWaitMillis = positive("pool.autoTune.targetWaitMillis", targetWaitMillis, DEFAULT_TARGET_WAIT_MILLIS);
+        }
+
+        public static AutoTuneConfig defaults() {
+            return new AutoTuneConfig(false, DEFAULT_MIN_SIZE, DEFAULT_MAX_SIZE, DEFAULT_INTERVAL_SECONDS,
+                    DEFAULT_TARGET_WAIT_MILLIS);
+        }
+    }
+
+    public record ReadRoutingConfig(int healthCheckSeconds, int readAfterWriteMillis, boolean hedgedReads,
+                                    int hedgePercentile, int hedgeMinDelayMillis) {
+        public static final int DEFAULT_HEALTH_CHECK_SECONDS = 5;
+        public static final int DEFAULT_READ_AFTER_WRITE_MILLIS = 1000;
+        public static final int DEFAULT_HEDGE_PERCENTILE = 95;
+        public static final int DEFAULT_HEDGE_MIN_DELAY_MILLIS = 2;
+
+        public ReadRoutingConfig {
+            healthCheckSeconds = positive("readRouting.healthCheckSeconds", healthCheckSeconds,
+                    DEFAULT_HEALTH_CHECK_SECONDS);
+            readAfterWriteMillis = nonNegative("readRouting.readAfterWriteMillis", readAfterWriteMillis,
+                    DEFAULT_READ_AFTER_WRITE_MILLIS);
+            if (hedgePercentile <= 0 || hedgePercentile >= 100) {
+                hedgePercentile = invalid("readRouting.hedgePercentile", hedgePercentile, DEFAULT_HEDGE_PERCENTILE);
+            }
+            hedgeMinDelayMillis = nonNegative("readRouting.hedgeMinDelayMillis", hedgeMinDelayMillis,
+                    DEFAULT_HEDGE_MIN_DELAY_MILLIS);
+        }
+
+        public static ReadRoutingConfig defaults() {
+            return new ReadRoutingConfig(DEFAULT_HEALTH_CHECK_SECONDS, DEFAULT_READ_AFTER_WRITE_MILLIS, false,
+                    DEFAULT_HEDGE_PERCENTILE, DEFAULT_HEDGE_MIN_DELAY_MILLIS);
+        }
+    }
+
+    public record LoaderConfig(int batchSize, boolean streaming, int queueCapacity, int writerThreads,
+                               boolean sync, boolean deleteMissing, int exportThreads) {
+        public static final int DEFAULT_BATCH_SIZE = 1000;
+        public static final int DEFAULT_QUEUE_CAPACITY = 10000;
+        public static final int DEFAULT_WRITER_THREADS = 2;
+        public static final int DEFAULT_EXPORT_THREADS = 4;
+
+        public LoaderConfig {
+            batchSize = positive("loader.batchSize", batchSize, DEFAULT_BATCH_SIZE);
+            queueCapacity = positive("loader.queueCapacity", queueCapacity, DEFAULT_QUEUE_CAPACITY);
+            writerThreads = positive("loader.writerThreads", writerThreads, DEFAULT_WRITER_THREADS);
+            exportThreads = positive("loader.exportThreads", exportThreads, DEFAULT_EXPORT_THREADS);
+        }
+
+        public static LoaderConfig defaults() {
+            return new LoaderConfig(DEFAULT_BATCH_SIZE, false, DEFAULT_QUEUE_CAPACITY, DEFAULT_WRITER_THREADS, false, false,
+                    DEFAULT_EXPORT_THREADS);
+        }
+    }
+
+    public record CacheConfig(boolean enabled, int maxSize, int ttlSeconds) {
+        public static final int DEFAULT_MAX_SIZE = 10000;
+        public static final int DEFAULT_TTL_SECONDS = 300;
+
+        public CacheConfig {
+            maxSize = positive("cache.maxSize", maxSize, DEFAULT_MAX_SIZE);
+            ttlSeconds = positive("cache.ttlSeconds", ttlSeconds, DEFAULT_TTL_SECONDS);
+        }
+
+        public static CacheConfig defaults() {
+            return new CacheConfig(true, DEFAULT_MAX_SIZE, DEFAULT_TTL_SECONDS);
+        }
+    }
+
+    public record RepositoryConfig(boolean upsert, int summaryRefreshSeconds) {
+        public static final int DEFAULT_SUMMARY_REFRESH_SECONDS = 300;
+
+        public static RepositoryConfig defaults() {
+            return new RepositoryConfig(false, DEFAULT_SUMMARY_REFRESH_SECONDS);
+        }
+    }
+
+    public record MetricsConfig(boolean enabled, int slowQueryMillis, boolean jmx) {
+        public static final int DEFAULT_SLOW_QUERY_MILLIS = 500;
+
+        public MetricsConfig {
+            slowQueryMillis = nonNegative("metrics.slowQueryMillis", slowQueryMillis, DEFAULT_SLOW_QUERY_MILLIS);
+        }
+
+        public static MetricsConfig defaults() {
+            return new MetricsConfig(true, DEFAULT_SLOW_QUERY_MILLIS, true);
+        }
+    }
+
+    public record SnapshotConfig(boolean enabled, String path, int refreshSeconds) {
+        public static final String DEFAULT_PATH = "data/catalog.snapshot";
+        public static final int DEFAULT_REFRESH_SECONDS = 30;
+
+        public SnapshotConfig {
+            path = path != null && !path.isBlank() ? path : DEFAULT_PATH;
+            refreshSeconds = positive("snapshot.refreshSeconds", refreshSeconds, DEFAULT_REFRESH_SECONDS);
+        }
+
+        public static SnapshotConfig defaults() {
+            return new SnapshotConfig(false, DEFAULT_PATH, DEFAULT_REFRESH_SECONDS);
+        }
+    }
+
+    public record WriteBehindConfig(boolean enabled, int maxPending, int batchSize, int flushIntervalMillis,
+                                    Durability durability, String journalDir) {
+        public static final int DEFAULT_MAX_PENDING = 10000;
+        public static final int DEFAULT_BATCH_SIZE = 500;
+        public static final int DEFAULT_FLUSH_INTERVAL_MILLIS = 200;
+        public static final String DEFAULT_JOURNAL_DIR = "data/write-behind";
+
+        public enum Durability { MEMORY, JOURNAL, SYNC }
+
+        public WriteBehindConfig {
+            maxPending = positive("writeBehind.maxPending", maxPending, DEFAULT_MAX_PENDING);
+            batchSize = positive("writeBehind.batchSize", batchSize, DEFAULT_BATCH_SIZE);
+            flushIntervalMillis = positive("writeBehind.flushIntervalMillis", flushIntervalMillis,
+                    DEFAULT_FLUSH_INTERVAL_MILLIS);
+            durability = durability != null ? durability : Durability.MEMORY;
+            journalDir = journalDir != null && !journalDir.isBlank() ? journalDir : DEFAULT_JOURNAL_DIR;
+        }
+
+        public static WriteBehindConfig defaults() {
+            return new WriteBehindConfig(false, DEFAULT_MAX_PENDING, DEFAULT_BATCH_SIZE, DEFAULT_FLUSH_INTERVAL_MILLIS,
+                    Durability.MEMORY, DEFAULT_JOURNAL_DIR);
+        }
+    }
+
+    public record TransactionConfig(Transaction.Isolation isolation) {
+        public static TransactionConfig defaults() {
+            return new TransactionConfig(Transaction.Isolation.DEFAULT);
+        }
+    }
+
+    public record ChangeEventsConfig(boolean enabled, int capacity, int maxBatch) {
+        public static final int DEFAULT_CAPACITY = 8192;
+        public static final int DEFAULT_MAX_BATCH = 256;
+
+        public ChangeEventsConfig {
+            capacity = positive("changeEvents.capacity", capacity, DEFAULT_CAPACITY);
+            maxBatch = positive("changeEvents.maxBatch", maxBatch, DEFAULT_MAX_BATCH);
+        }
+
+        public static ChangeEventsConfig defaults() {
+            return new ChangeEventsConfig(false, DEFAULT_CAPACITY, DEFAULT_MAX_BATCH);
+        }
+    }
 }
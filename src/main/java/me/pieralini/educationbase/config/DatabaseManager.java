@@ -2,17 +2,38 @@ package me.pieralini.educationbase.config;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import me.pieralini.educationbase.config.ConfigManager.DatabaseConfig;
+import me.pieralini.educationbase.metrics.PoolMetrics;
+import me.pieralini.educationbase.metrics.QueryMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
 
 public class DatabaseManager {
 
     private static final Logger logger = LoggerFactory.getLogger(DatabaseManager.class);
+    private static final ExecutorService acquirers = Executors.newVirtualThreadPerTaskExecutor();
     private static DatabaseManager instance;
     private HikariDataSource dataSource;
+    private PoolMetrics poolMetrics;
+    private PoolAutoTuner autoTuner;
+    private ReplicaRouter replicaRouter;
+    private Transaction.Isolation defaultIsolation = Transaction.Isolation.DEFAULT;
 
     private DatabaseManager() {}
 
@@ -25,33 +46,212 @@ public class DatabaseManager {
 
     public void initialize(ConfigManager config) {
         var dbConfig = config.getDatabaseConfig();
-        
+        var poolConfig = config.getPoolConfig();
+        var autoTune = poolConfig.autoTune();
+        int maximumPoolSize = poolConfig.effectiveMaximumPoolSize();
+        if (autoTune.enabled()) {
+            maximumPoolSize = Math.max(autoTune.minSize(), Math.min(autoTune.maxSize(), maximumPoolSize));
+        }
+        defaultIsolation = config.getTransactionConfig().isolation();
+
+        dataSource = createDataSource(dbConfig, poolConfig, "primary", maximumPoolSize);
+        poolMetrics = new PoolMetrics(dataSource);
+        if (config.getMetricsConfig().jmx()) {
+            QueryMetrics.registerMBean(poolMetrics, "ConnectionPool", dataSource.getPoolName());
+        }
+        logger.info("Conexão com banco de dados estabelecida: {}:{}/{} (pool de {} conexões)",
+                dbConfig.host(), dbConfig.port(), dbConfig.name(), maximumPoolSize);
+
+        if (autoTune.enabled()) {
+            autoTuner = new PoolAutoTuner(dataSource, poolMetrics.getWaitTime(), autoTune, poolConfig.minimumIdle());
+            autoTuner.start();
+        }
+
+        List<DatabaseConfig> replicaConfigs = config.getReplicaConfigs() != null ? config.getReplicaConfigs() : List.of();
+        if (!replicaConfigs.isEmpty()) {
+            List<ReadReplica> replicas = new ArrayList<>(replicaConfigs.size());
+            for (int i = 0; i < replicaConfigs.size(); i++) {
+                DatabaseConfig replicaConfig = replicaConfigs.get(i);
+                HikariDataSource replicaDataSource = createDataSource(replicaConfig, poolConfig, "replica-" + (i + 1),
+                        poolConfig.effectiveMaximumPoolSize());
+                ReadReplica replica = new ReadReplica(replicaDataSource.getPoolName(), replicaDataSource);
+                if (config.getMetricsConfig().jmx()) {
+                    QueryMetrics.registerMBean(replica.getPoolMetrics(), "ConnectionPool", replica.getName());
+                }
+                replicas.add(replica);
+                logger.info("Réplica de leitura registrada: {}:{}/{}", replicaConfig.host(), replicaConfig.port(), replicaConfig.name());
+            }
+            replicaRouter = new ReplicaRouter(replicas, config.getReadRoutingConfig());
+            replicaRouter.start();
+        }
+    }
+
+    private HikariDataSource createDataSource(DatabaseConfig dbConfig, ConfigManager.PoolConfig poolConfig,
+                                              String poolName, int maximumPoolSize) {
         HikariConfig hikariConfig = new HikariConfig();
-        hikariConfig.setJdbcUrl(String.format("jdbc:mysql://%s:%d/%s?useSSL=false&serverTimezone=UTC&allowPublicKeyRetrieval=true",
+        hikariConfig.setPoolName(poolName);
+        hikariConfig.setJdbcUrl(String.format("jdbc:mysql://%s:%d/%s?useSSL=false&serverTimezone=UTC&allowPublicKeyRetrieval=true&rewriteBatchedStatements=true&useAffectedRows=true",
                 dbConfig.host(), dbConfig.port(), dbConfig.name()));
         hikariConfig.setUsername(dbConfig.user());
         hikariConfig.setPassword(dbConfig.password());
-        hikariConfig.setMaximumPoolSize(10);
-        hikariConfig.setMinimumIdle(2);
-        hikariConfig.setIdleTimeout(30000);
-        hikariConfig.setConnectionTimeout(30000);
-        hikariConfig.setMaxLifetime(1800000);
+        hikariConfig.setMaximumPoolSize(maximumPoolSize);
+        hikariConfig.setMinimumIdle(Math.min(poolConfig.minimumIdle(), maximumPoolSize));
+        hikariConfig.setIdleTimeout(poolConfig.idleTimeoutMillis());
+        hikariConfig.setConnectionTimeout(poolConfig.connectionTimeoutMillis());
+        hikariConfig.setMaxLifetime(poolConfig.maxLifetimeMillis());
         hikariConfig.addDataSourceProperty("cachePrepStmts", "true");
         hikariConfig.addDataSourceProperty("prepStmtCacheSize", "250");
         hikariConfig.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+        return new HikariDataSource(hikariConfig);
+    }
 
-        dataSource = new HikariDataSource(hikariConfig);
-        logger.info("Conexão com banco de dados estabelecida: {}:{}/{}", dbConfig.host(), dbConfig.port(), dbConfig.name());
+    public void warmUp() {
+        if (dataSource == null) {
+            throw new IllegalStateException("DatabaseManager não foi inicializado");
+        }
+        int connections = Math.max(1, dataSource.getMinimumIdle());
+        List<Connection> borrowed = new ArrayList<>(connections);
+        long start = System.nanoTime();
+        try {
+            for (int i = 0; i < connections; i++) {
+                borrowed.add(dataSource.getConnection());
+            }
+            logger.info("Pool aquecido com {} conexões em {} ms", borrowed.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (SQLException e) {
+            logger.warn("Erro ao aquecer pool de conexões: {}", e.getMessage());
+        } finally {
+            for (Connection conn : borrowed) {
+                try {
+                    conn.close();
+                } catch (SQLException e) {
+                    logger.debug("Erro ao devolver conexão: {}", e.getMessage());
+                }
+            }
+        }
     }
 
     public Connection getConnection() throws SQLException {
         if (dataSource == null) {
             throw new IllegalStateException("DatabaseManager não foi inicializado");
         }
-        return dataSource.getConnection();
+        Optional<Transaction> transaction = Transaction.current();
+        if (transaction.isPresent()) {
+            return transaction.get().connection();
+        }
+        long start = System.nanoTime();
+        try {
+            return dataSource.getConnection();
+        } finally {
+            poolMetrics.recordWait(System.nanoTime() - start);
+        }
+    }
+
+    public Connection getConnection(long timeoutMillis) throws SQLException {
+        if (dataSource == null) {
+            throw new IllegalStateException("DatabaseManager não foi inicializado");
+        }
+        if (timeoutMillis >= dataSource.getConnectionTimeout() || Transaction.current().isPresent()) {
+            return getConnection();
+        }
+        if (timeoutMillis <= 0) {
+            throw new SQLTransientConnectionException("Prazo esgotado antes de obter conexão");
+        }
+        long start = System.nanoTime();
+        try {
+            return getConnection(dataSource, timeoutMillis);
+        } finally {
+            poolMetrics.recordWait(System.nanoTime() - start);
+        }
+    }
+
+    static Connection getConnection(HikariDataSource dataSource, long timeoutMillis) throws SQLException {
+        Future<Connection> acquisition = acquirers.submit(() -> dataSource.getConnection());
+        try {
+            return acquisition.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            releaseLate(acquisition);
+            throw new SQLTransientConnectionException("Prazo de " + timeoutMillis + " ms esgotado ao obter conexão de "
+                    + dataSource.getPoolName());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            releaseLate(acquisition);
+            throw new SQLTransientConnectionException("Interrompido ao obter conexão de " + dataSource.getPoolName(), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            throw new SQLException("Erro ao obter conexão de " + dataSource.getPoolName(), e.getCause());
+        }
+    }
+
+    private static void releaseLate(Future<Connection> acquisition) {
+        acquirers.execute(() -> {
+            try {
+                acquisition.get().close();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | SQLException e) {
+                logger.debug("Conexão obtida após o prazo não pôde ser devolvida: {}", e.getMessage());
+            }
+        });
+    }
+
+    public <R> R inTransaction(Function<Transaction, R> work) {
+        return inTransaction(defaultIsolation, false, work);
+    }
+
+    public <R> R inReadOnlyTransaction(Function<Transaction, R> work) {
+        return inTransaction(defaultIsolation, true, work);
+    }
+
+    public <R> R inTransaction(Transaction.Isolation isolation, boolean readOnly, Function<Transaction, R> work) {
+        Optional<Transaction> current = Transaction.current();
+        if (current.isPresent()) {
+            return current.get().join(readOnly, work);
+        }
+        Connection connection;
+        try {
+            connection = getConnection();
+        } catch (SQLException e) {
+            throw new TransactionException("Erro ao obter conexão para transação: " + e.getMessage(), e);
+        }
+        return Transaction.run(connection, isolation, readOnly, work);
+    }
+
+    public void addPoolLimiter(IntSupplier waiting, IntConsumer resize) {
+        if (autoTuner != null) {
+            autoTuner.addLimiter(waiting, resize);
+        }
+    }
+
+    public ReplicaRouter getReplicaRouter() {
+        return replicaRouter;
+    }
+
+    public PoolMetrics getPoolMetrics() {
+        if (poolMetrics == null) {
+            throw new IllegalStateException("DatabaseManager não foi inicializado");
+        }
+        return poolMetrics;
+    }
+
+    public int getMaximumPoolSize() {
+        if (dataSource == null) {
+            throw new IllegalStateException("DatabaseManager não foi inicializado");
+        }
+        return dataSource.getMaximumPoolSize();
     }
 
     public void close() {
+        if (autoTuner != null) {
+            autoTuner.stop();
+            autoTuner = null;
+        }
+        if (replicaRouter != null) {
+            replicaRouter.close();
+            replicaRouter = null;
+        }
         if (dataSource != null && !dataSource.isClosed()) {
             dataSource.close();
             logger.info("Conexão com banco de dados encerrada");
@@ -0,0 +1,111 @@
+package me.pieralini.educationbase.config;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import me.pieralini.educationbase.metrics.LatencyHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+
+public class PoolAutoTuner {
+
+    private static final Logger logger = LoggerFactory.getLogger(PoolAutoTuner.class);
+
+    private final HikariDataSource dataSource;
+    private final LatencyHistogram waitTime;
+    private final ConfigManager.AutoTuneConfig config;
+    private final int minimumIdle;
+    private final long targetWaitNanos;
+    private final ScheduledExecutorService scheduler;
+    private final List<IntConsumer> resizeListeners = new CopyOnWriteArrayList<>();
+    private final List<IntSupplier> waiters = new CopyOnWriteArrayList<>();
+    private long lastRequests;
+    private long lastWaitNanos;
+
+    public PoolAutoTuner(HikariDataSource dataSource, LatencyHistogram waitTime,
+                         ConfigManager.AutoTuneConfig config, int minimumIdle) {
+        this.dataSource = dataSource;
+        this.waitTime = waitTime;
+        this.config = config;
+        this.minimumIdle = minimumIdle;
+        this.targetWaitNanos = TimeUnit.MILLISECONDS.toNanos(config.targetWaitMillis());
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "pool-auto-tuner");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start() {
+        lastRequests = waitTime.getCount();
+        lastWaitNanos = waitTime.getTotalNanos();
+        scheduler.scheduleWithFixedDelay(this::tuneSafely, config.intervalSeconds(), config.intervalSeconds(), TimeUnit.SECONDS);
+        logger.info("Ajuste automático do pool ativo: {} a {} conexões, espera alvo {} ms",
+                config.minSize(), config.maxSize(), config.targetWaitMillis());
+    }
+
+    public void addLimiter(IntSupplier waiting, IntConsumer resize) {
+        waiters.add(waiting);
+        resizeListeners.add(resize);
+    }
+
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    private void tuneSafely() {
+        try {
+            tune();
+        } catch (RuntimeException e) {
+            logger.warn("Erro no ajuste automático do pool: {}", e.getMessage());
+        }
+    }
+
+    void tune() {
+        if (dataSource.isClosed()) {
+            return;
+        }
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        HikariConfigMXBean poolConfig = dataSource.getHikariConfigMXBean();
+
+        long requests = waitTime.getCount();
+        long waitNanos = waitTime.getTotalNanos();
+        long intervalRequests = requests - lastRequests;
+        long averageWaitNanos = intervalRequests == 0 ? 0 : (waitNanos - lastWaitNanos) / intervalRequests;
+        lastRequests = requests;
+        lastWaitNanos = waitNanos;
+
+        int size = poolConfig.getMaximumPoolSize();
+        int active = pool.getActiveConnections();
+        int pending = pool.getThreadsAwaitingConnection();
+        for (IntSupplier waiting : waiters) {
+            pending += waiting.getAsInt();
+        }
+        double utilisation = size == 0 ? 0.0 : active / (double) size;
+
+        int target = size;
+        if ((pending > 0 || averageWaitNanos > targetWaitNanos) && size < config.maxSize()) {
+            target = Math.min(config.maxSize(), size + Math.max(1, size / 4));
+        } else if (pending == 0 && averageWaitNanos < targetWaitNanos / 4 && utilisation < 0.5 && size > config.minSize()) {
+            target = size - 1;
+        }
+
+        if (target != size) {
+            poolConfig.setMinimumIdle(Math.min(minimumIdle, target));
+            poolConfig.setMaximumPoolSize(target);
+            for (IntConsumer listener : resizeListeners) {
+                listener.accept(target);
+            }
+            logger.info("Pool ajustado de {} para {} conexões (ativas={}, aguardando={}, espera média={} µs)",
+                    size, target, active, pending, TimeUnit.NANOSECONDS.toMicros(averageWaitNanos));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package me.pieralini.educationbase.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import me.pieralini.educationbase.metrics.LatencyHistogram;
+import me.pieralini.educationbase.metrics.PoolMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ReadReplica {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadReplica.class);
+
+    private final String name;
+    private final HikariDataSource dataSource;
+    private final PoolMetrics poolMetrics;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile boolean healthy = true;
+
+    public ReadReplica(String name, HikariDataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+        this.poolMetrics = new PoolMetrics(dataSource);
+    }
+
+    public Connection getConnection(long timeoutMillis) throws SQLException {
+        if (timeoutMillis <= 0) {
+            throw new SQLTransientConnectionException("Prazo esgotado antes de obter conexão da réplica " + name);
+        }
+        long start = System.nanoTime();
+        try {
+            if (timeoutMillis >= dataSource.getConnectionTimeout()) {
+                return dataSource.getConnection();
+            }
+            return DatabaseManager.getConnection(dataSource, timeoutMillis);
+        } finally {
+            poolMetrics.recordWait(System.nanoTime() - start);
+        }
+    }
+
+    public void begin() {
+        inFlight.incrementAndGet();
+    }
+
+    public void end(long nanos, boolean success) {
+        inFlight.decrementAndGet();
+        if (success) {
+            latency.record(nanos);
+        }
+    }
+
+    public void markDown(String reason) {
+        if (healthy) {
+            healthy = false;
+            logger.warn("Réplica {} marcada como indisponível: {}", name, reason);
+        }
+    }
+
+    boolean checkHealth() {
+        try (Connection conn = dataSource.getConnection()) {
+            boolean valid = conn.isValid(2);
+            if (valid && !healthy) {
+                logger.info("Réplica {} disponível novamente", name);
+            }
+            healthy = valid;
+        } catch (SQLException e) {
+            markDown(e.getMessage());
+        }
+        return healthy;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    public PoolMetrics getPoolMetrics() {
+        return poolMetrics;
+    }
+
+    void close() {
+        if (!dataSource.isClosed()) {
+            dataSource.close();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package me.pieralini.educationbase.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ReplicaRouter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRouter.class);
+
+    private final List<ReadReplica> replicas;
+    private final ConfigManager.ReadRoutingConfig config;
+    private final AtomicInteger nextIndex = new AtomicInteger();
+    private final LongAdder hedgedReads = new LongAdder();
+    private final ScheduledExecutorService healthChecker;
+
+    public ReplicaRouter(List<ReadReplica> replicas, ConfigManager.ReadRoutingConfig config) {
+        this.replicas = List.copyOf(replicas);
+        this.config = config;
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start() {
+        healthChecker.scheduleWithFixedDelay(this::checkHealth, 0, config.healthCheckSeconds(), TimeUnit.SECONDS);
+        logger.info("Roteamento de leituras ativo para {} réplicas (leituras redundantes: {})",
+                replicas.size(), config.hedgedReads() ? "ativadas" : "desativadas");
+    }
+
+    public ReadReplica choose(ReadReplica exclude) {
+        int size = replicas.size();
+        int start = Math.floorMod(nextIndex.getAndIncrement(), size);
+        ReadReplica best = null;
+        for (int i = 0; i < size; i++) {
+            ReadReplica candidate = replicas.get((start + i) % size);
+            if (candidate == exclude || !candidate.isHealthy()) {
+                continue;
+            }
+            if (best == null || candidate.getInFlight() < best.getInFlight()) {
+                best = candidate;
+            }
+        }
+        return best;
+    }
+
+    public boolean isHedgingEnabled() {
+        return config.hedgedReads() && replicas.size() > 1;
+    }
+
+    public long hedgeDelayNanos(ReadReplica replica) {
+        long minimum = TimeUnit.MILLISECONDS.toNanos(config.hedgeMinDelayMillis());
+        long observed = (long) (replica.getLatency().getPercentileMillis(config.hedgePercentile()) * 1_000_000);
+        return Math.max(minimum, observed);
+    }
+
+    public long getReadAfterWriteNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(config.readAfterWriteMillis());
+    }
+
+    public void recordHedge() {
+        hedgedReads.increment();
+    }
+
+    public long getHedgedReads() {
+        return hedgedReads.sum();
+    }
+
+    public List<ReadReplica> getReplicas() {
+        return replicas;
+    }
+
+    private void checkHealth() {
+        for (ReadReplica replica : replicas) {
+            try {
+                replica.checkHealth();
+            } catch (RuntimeException e) {
+                replica.markDown(e.getMessage());
+            }
+        }
+    }
+
+    void close() {
+        healthChecker.shutdownNow();
+        replicas.forEach(ReadReplica::close);
+    }
+}
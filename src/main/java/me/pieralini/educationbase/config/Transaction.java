@@ -0,0 +1,160 @@
+package me.pieralini.educationbase.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+public final class Transaction {
+
+    private static final Logger logger = LoggerFactory.getLogger(Transaction.class);
+    private static final ThreadLocal<Transaction> CURRENT = new ThreadLocal<>();
+
+    private final Connection connection;
+    private final Connection bound;
+    private final boolean readOnly;
+    private final List<Runnable> afterCommit = new ArrayList<>();
+    private boolean rollbackOnly;
+
+    private Transaction(Connection connection, boolean readOnly) {
+        this.connection = connection;
+        this.readOnly = readOnly;
+        this.bound = bind(connection);
+    }
+
+    public static Optional<Transaction> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    public boolean isRollbackOnly() {
+        return rollbackOnly;
+    }
+
+    public void setRollbackOnly() {
+        rollbackOnly = true;
+    }
+
+    public void afterCommit(Runnable action) {
+        afterCommit.add(action);
+    }
+
+    Connection connection() {
+        return bound;
+    }
+
+    <R> R join(boolean readOnly, Function<Transaction, R> work) {
+        if (this.readOnly && !readOnly) {
+            throw new TransactionException("Transação somente leitura não permite escrita");
+        }
+        return work.apply(this);
+    }
+
+    static <R> R run(Connection connection, Isolation isolation, boolean readOnly, Function<Transaction, R> work) {
+        Transaction tx = new Transaction(connection, readOnly);
+        try (connection) {
+            if (isolation != Isolation.DEFAULT) {
+                connection.setTransactionIsolation(isolation.level());
+            }
+            if (readOnly) {
+                connection.setReadOnly(true);
+            }
+            connection.setAutoCommit(false);
+
+            R result;
+            CURRENT.set(tx);
+            try {
+                result = work.apply(tx);
+            } catch (RuntimeException | Error e) {
+                CURRENT.remove();
+                rollbackQuietly(connection);
+                throw e;
+            } finally {
+                CURRENT.remove();
+            }
+
+            if (tx.rollbackOnly) {
+                connection.rollback();
+                return result;
+            }
+            try {
+                connection.commit();
+            } catch (SQLException e) {
+                rollbackQuietly(connection);
+                throw e;
+            }
+            tx.afterCommit.forEach(Transaction::runQuietly);
+            return result;
+        } catch (SQLException e) {
+            throw new TransactionException("Erro ao concluir transação: " + e.getMessage(), e);
+        }
+    }
+
+    private Connection bind(Connection target) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close", "commit", "setAutoCommit", "setReadOnly", "setTransactionIsolation" -> {
+                            return null;
+                        }
+                        case "rollback" -> {
+                            if (args == null) {
+                                rollbackOnly = true;
+                                return null;
+                            }
+                        }
+                        default -> {
+                        }
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private static void rollbackQuietly(Connection connection) {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            logger.error("Erro ao desfazer transação: {}", e.getMessage());
+        }
+    }
+
+    private static void runQuietly(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            logger.error("Erro ao executar ação após commit: {}", e.getMessage());
+        }
+    }
+
+    public enum Isolation {
+        DEFAULT(-1),
+        READ_UNCOMMITTED(Connection.TRANSACTION_READ_UNCOMMITTED),
+        READ_COMMITTED(Connection.TRANSACTION_READ_COMMITTED),
+        REPEATABLE_READ(Connection.TRANSACTION_REPEATABLE_READ),
+        SERIALIZABLE(Connection.TRANSACTION_SERIALIZABLE);
+
+        private final int level;
+
+        Isolation(int level) {
+            this.level = level;
+        }
+
+        public int level() {
+            return level;
+        }
+    }
+}
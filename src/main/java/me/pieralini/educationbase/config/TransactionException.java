@@ -0,0 +1,14 @@
+package me.pieralini.educationbase.config;
+
+public class TransactionException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public TransactionException(String message) {
+        super(message);
+    }
+
+    public TransactionException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
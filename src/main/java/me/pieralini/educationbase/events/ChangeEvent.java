@@ -0,0 +1,13 @@
+package me.pieralini.educationbase.events;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public record ChangeEvent<T>(long sequence, Operation operation, String table, Object id, T entity, Instant committedAt) {
+
+    public enum Operation { INSERT, UPDATE, DELETE }
+
+    public <E> Optional<E> entityAs(Class<E> type) {
+        return type.isInstance(entity) ? Optional.of(type.cast(entity)) : Optional.empty();
+    }
+}
@@ -0,0 +1,111 @@
+package me.pieralini.educationbase.events;
+
+import me.pieralini.educationbase.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+public class ChangeEventBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeEventBus.class);
+    private static ChangeEventBus instance;
+
+    private final ConfigManager.ChangeEventsConfig config;
+    private final AtomicReferenceArray<ChangeEvent<?>> ring;
+    private final int capacity;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong(-1);
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    private ChangeEventBus() {
+        this(ConfigManager.getInstance().getChangeEventsConfig());
+    }
+
+    ChangeEventBus(ConfigManager.ChangeEventsConfig config) {
+        this.config = config;
+        this.capacity = Integer.highestOneBit(Math.max(1, config.capacity() - 1)) << 1;
+        this.mask = capacity - 1;
+        this.ring = new AtomicReferenceArray<>(capacity);
+    }
+
+    public static synchronized ChangeEventBus getInstance() {
+        if (instance == null) {
+            instance = new ChangeEventBus();
+        }
+        return instance;
+    }
+
+    public boolean isEnabled() {
+        return config.enabled();
+    }
+
+    public <T> void publish(ChangeEvent.Operation operation, String table, Object id, T entity) {
+        if (!config.enabled()) {
+            return;
+        }
+        long sequence = claimed.incrementAndGet();
+        ChangeEvent<T> event = new ChangeEvent<>(sequence, operation, table, id, entity, Instant.now());
+        int index = index(sequence);
+        ChangeEvent<?> current;
+        do {
+            current = ring.get(index);
+            if (current != null && current.sequence() > sequence) {
+                return;
+            }
+        } while (!ring.compareAndSet(index, current, event));
+        for (Subscription subscription : subscriptions) {
+            subscription.wake();
+        }
+    }
+
+    public long lastSequence() {
+        return claimed.get();
+    }
+
+    public long oldestSequence() {
+        return Math.max(0, claimed.get() - capacity + 1);
+    }
+
+    public Subscription subscribe(String name, ChangeListener listener) {
+        return subscribe(name, lastSequence() + 1, listener);
+    }
+
+    public synchronized Subscription subscribe(String name, long fromSequence, ChangeListener listener) {
+        Subscription subscription = new Subscription(this, name, Math.max(0, fromSequence), listener);
+        subscriptions.add(subscription);
+        subscription.start();
+        logger.info("Assinatura de eventos '{}' iniciada na sequência {}", name, subscription.position());
+        return subscription;
+    }
+
+    public synchronized void close() {
+        for (Subscription subscription : subscriptions) {
+            subscription.close();
+        }
+    }
+
+    void unsubscribe(Subscription subscription) {
+        subscriptions.remove(subscription);
+    }
+
+    ChangeEvent<?> slot(long sequence) {
+        return ring.get(index(sequence));
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    int maxBatch() {
+        return config.maxBatch();
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence & mask);
+    }
+}
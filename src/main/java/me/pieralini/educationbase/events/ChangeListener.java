@@ -0,0 +1,11 @@
+package me.pieralini.educationbase.events;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface ChangeListener {
+
+    void onEvents(List<ChangeEvent<?>> events);
+
+    default void onEventsLost(long fromSequence, long toSequence) {}
+}
@@ -0,0 +1,130 @@
+package me.pieralini.educationbase.events;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+public class Subscription implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(Subscription.class);
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+
+    private final ChangeEventBus bus;
+    private final String name;
+    private final ChangeListener listener;
+    private final Thread thread;
+    private volatile long next;
+    private volatile long lost;
+    private volatile boolean waiting;
+    private volatile long stopAt = Long.MAX_VALUE;
+
+    Subscription(ChangeEventBus bus, String name, long fromSequence, ChangeListener listener) {
+        this.bus = bus;
+        this.name = name;
+        this.listener = listener;
+        this.next = fromSequence;
+        this.thread = new Thread(this::run, "change-events-" + name);
+        this.thread.setDaemon(true);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public long position() {
+        return next;
+    }
+
+    public long lost() {
+        return lost;
+    }
+
+    void start() {
+        skipOverwritten();
+        thread.start();
+    }
+
+    void wake() {
+        if (waiting) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (stopAt != Long.MAX_VALUE) {
+            return;
+        }
+        stopAt = bus.lastSequence() + 1;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        bus.unsubscribe(this);
+        logger.info("Assinatura de eventos '{}' encerrada na sequência {} ({} perdidos)", name, next, lost);
+    }
+
+    private void run() {
+        int maxBatch = bus.maxBatch();
+        List<ChangeEvent<?>> batch = new ArrayList<>(maxBatch);
+        while (next < stopAt || !batch.isEmpty()) {
+            ChangeEvent<?> event = next < stopAt ? bus.slot(next) : null;
+            if (event != null && event.sequence() == next) {
+                batch.add(event);
+                next++;
+                if (batch.size() < maxBatch) {
+                    continue;
+                }
+            }
+            if (!batch.isEmpty()) {
+                deliver(batch);
+                batch = new ArrayList<>(maxBatch);
+                continue;
+            }
+            if (event != null && event.sequence() > next) {
+                skipOverwritten();
+                continue;
+            }
+            park();
+        }
+    }
+
+    private void deliver(List<ChangeEvent<?>> batch) {
+        try {
+            listener.onEvents(batch);
+        } catch (RuntimeException e) {
+            logger.error("Erro no consumidor de eventos '{}': {}", name, e.getMessage());
+        }
+    }
+
+    private void skipOverwritten() {
+        long oldest = bus.oldestSequence();
+        if (oldest > next) {
+            long from = next;
+            lost += oldest - from;
+            next = oldest;
+            logger.warn("Consumidor de eventos '{}' atrasado: eventos {} a {} descartados", name, from, oldest - 1);
+            try {
+                listener.onEventsLost(from, oldest - 1);
+            } catch (RuntimeException e) {
+                logger.error("Erro no consumidor de eventos '{}': {}", name, e.getMessage());
+            }
+        }
+    }
+
+    private void park() {
+        waiting = true;
+        ChangeEvent<?> event = bus.slot(next);
+        if ((event == null || event.sequence() < next) && next < stopAt) {
+            LockSupport.parkNanos(this, PARK_NANOS);
+        }
+        waiting = false;
+    }
+}
@@ -0,0 +1,15 @@
+package me.pieralini.educationbase.loader;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+public interface BinaryCodec<T> {
+
+    String type();
+
+    List<String> schema();
+
+    void encode(T entity, ByteBuffer out);
+
+    T decode(ByteBuffer in);
+}
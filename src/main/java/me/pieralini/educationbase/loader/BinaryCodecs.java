@@ -0,0 +1,83 @@
+package me.pieralini.educationbase.loader;
+
+import me.pieralini.educationbase.model.Curso;
+import me.pieralini.educationbase.model.Faculdade;
+import me.pieralini.educationbase.model.Faculdade.TipoGraduacao;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+public final class BinaryCodecs {
+
+    public static final BinaryCodec<Curso> CURSO = new BinaryCodec<>() {
+        @Override
+        public String type() {
+            return "curso";
+        }
+
+        @Override
+        public List<String> schema() {
+            return List.of("id:int32", "nome:string", "descricao:string", "plataforma:string",
+                    "created_at:timestamp", "updated_at:timestamp");
+        }
+
+        @Override
+        public void encode(Curso curso, ByteBuffer out) {
+            BinaryFormat.putInteger(out, curso.getId());
+            BinaryFormat.putString(out, curso.getNome());
+            BinaryFormat.putString(out, curso.getDescricao());
+            BinaryFormat.putString(out, curso.getPlataforma());
+            BinaryFormat.putTimestamp(out, curso.getCreatedAt());
+            BinaryFormat.putTimestamp(out, curso.getUpdatedAt());
+        }
+
+        @Override
+        public Curso decode(ByteBuffer in) {
+            return new Curso(
+                    BinaryFormat.getInteger(in),
+                    BinaryFormat.getString(in),
+                    BinaryFormat.getString(in),
+                    BinaryFormat.getString(in),
+                    BinaryFormat.getTimestamp(in),
+                    BinaryFormat.getTimestamp(in),
+                    null);
+        }
+    };
+
+    public static final BinaryCodec<Faculdade> FACULDADE = new BinaryCodec<>() {
+        @Override
+        public String type() {
+            return "faculdade";
+        }
+
+        @Override
+        public List<String> schema() {
+            return List.of("id:int32", "nome_curso:string", "tipo_graduacao:enum", "duracao_semestres:int32",
+                    "created_at:timestamp", "updated_at:timestamp");
+        }
+
+        @Override
+        public void encode(Faculdade faculdade, ByteBuffer out) {
+            BinaryFormat.putInteger(out, faculdade.getId());
+            BinaryFormat.putString(out, faculdade.getNomeCurso());
+            BinaryFormat.putEnum(out, faculdade.getTipoGraduacao());
+            BinaryFormat.putInteger(out, faculdade.getDuracaoSemestres());
+            BinaryFormat.putTimestamp(out, faculdade.getCreatedAt());
+            BinaryFormat.putTimestamp(out, faculdade.getUpdatedAt());
+        }
+
+        @Override
+        public Faculdade decode(ByteBuffer in) {
+            return new Faculdade(
+                    BinaryFormat.getInteger(in),
+                    BinaryFormat.getString(in),
+                    BinaryFormat.getEnum(in, TipoGraduacao.class),
+                    BinaryFormat.getInteger(in),
+                    BinaryFormat.getTimestamp(in),
+                    BinaryFormat.getTimestamp(in),
+                    null);
+        }
+    };
+
+    private BinaryCodecs() {}
+}
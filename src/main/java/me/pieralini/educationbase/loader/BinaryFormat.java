@@ -0,0 +1,88 @@
+package me.pieralini.educationbase.loader;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.zip.CRC32C;
+
+final class BinaryFormat {
+
+    static final int MAGIC = 0x45424446;
+    static final int VERSION = 1;
+    static final int BLOCK_HEADER_SIZE = 3 * Integer.BYTES;
+    static final int DEFAULT_BLOCK_SIZE = 64 * 1024;
+
+    private static final int NULL_LENGTH = -1;
+    private static final long NULL_TIMESTAMP = Long.MIN_VALUE;
+
+    private BinaryFormat() {}
+
+    static void putString(ByteBuffer out, String value) {
+        if (value == null) {
+            out.putInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.putInt(bytes.length);
+        out.put(bytes);
+    }
+
+    static String getString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static void putInteger(ByteBuffer out, Integer value) {
+        out.put((byte) (value != null ? 1 : 0));
+        out.putInt(value != null ? value : 0);
+    }
+
+    static Integer getInteger(ByteBuffer in) {
+        boolean present = in.get() != 0;
+        int value = in.getInt();
+        return present ? value : null;
+    }
+
+    static void putTimestamp(ByteBuffer out, LocalDateTime value) {
+        out.putLong(value != null
+                ? value.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + value.getNano() / 1_000
+                : NULL_TIMESTAMP);
+    }
+
+    static LocalDateTime getTimestamp(ByteBuffer in) {
+        long micros = in.getLong();
+        if (micros == NULL_TIMESTAMP) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    static <E extends Enum<E>> void putEnum(ByteBuffer out, E value) {
+        putString(out, value != null ? value.name() : null);
+    }
+
+    static <E extends Enum<E>> E getEnum(ByteBuffer in, Class<E> type) {
+        String name = getString(in);
+        return name != null ? Enum.valueOf(type, name) : null;
+    }
+
+    static int checksum(ByteBuffer data) {
+        CRC32C crc = new CRC32C();
+        crc.update(data.duplicate());
+        return (int) crc.getValue();
+    }
+
+    static void verify(ByteBuffer data, int expected, String what) throws IOException {
+        if (checksum(data) != expected) {
+            throw new IOException("Checksum inválido em " + what);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package me.pieralini.educationbase.loader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class BinaryReader<T> implements Closeable {
+
+    private final Path source;
+    private final FileChannel channel;
+    private final MappedByteBuffer mapped;
+    private final BinaryCodec<T> codec;
+    private final int dataStart;
+
+    private BinaryReader(Path source, FileChannel channel, MappedByteBuffer mapped, BinaryCodec<T> codec)
+            throws IOException {
+        this.source = source;
+        this.channel = channel;
+        this.mapped = mapped;
+        this.codec = codec;
+        this.dataStart = readHeader();
+    }
+
+    public static <T> BinaryReader<T> open(Path source, BinaryCodec<T> codec) throws IOException {
+        FileChannel channel = FileChannel.open(source, StandardOpenOption.READ);
+        try {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new BinaryReader<>(source, channel, mapped, codec);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public long forEach(Consumer<? super T> action) throws IOException {
+        ByteBuffer in = mapped.duplicate().position(dataStart);
+        long records = 0;
+        int block = 0;
+        while (true) {
+            if (in.remaining() < BinaryFormat.BLOCK_HEADER_SIZE) {
+                throw new IOException("Arquivo binário truncado: " + source);
+            }
+            int count = in.getInt();
+            int length = in.getInt();
+            int checksum = in.getInt();
+            if (count == 0 && length == 0) {
+                return records;
+            }
+            if (count < 0 || length < 0 || length > in.remaining()) {
+                throw new IOException("Bloco " + block + " inválido em " + source);
+            }
+            ByteBuffer payload = in.slice(in.position(), length);
+            in.position(in.position() + length);
+            BinaryFormat.verify(payload, checksum, "bloco " + block + " de " + source);
+            try {
+                for (int i = 0; i < count; i++) {
+                    action.accept(codec.decode(payload));
+                }
+            } catch (BufferUnderflowException | IllegalArgumentException e) {
+                throw new IOException("Registro corrompido no bloco " + block + " de " + source, e);
+            }
+            if (payload.hasRemaining()) {
+                throw new IOException("Bloco " + block + " com dados excedentes em " + source);
+            }
+            records += count;
+            block++;
+        }
+    }
+
+    public List<T> readAll() throws IOException {
+        List<T> records = new ArrayList<>();
+        forEach(records::add);
+        return records;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int readHeader() throws IOException {
+        ByteBuffer in = mapped.duplicate();
+        try {
+            if (in.getInt() != BinaryFormat.MAGIC) {
+                throw new IOException("Arquivo binário inválido: " + source);
+            }
+            int version = in.getInt();
+            if (version != BinaryFormat.VERSION) {
+                throw new IOException("Versão " + version + " do formato binário não suportada: " + source);
+            }
+            int length = in.getInt();
+            ByteBuffer schema = in.slice(in.position(), length);
+            in.position(in.position() + length);
+            BinaryFormat.verify(schema, in.getInt(), "cabeçalho de " + source);
+
+            String type = BinaryFormat.getString(schema);
+            List<String> fields = new ArrayList<>();
+            for (int i = schema.getInt(); i > 0; i--) {
+                fields.add(BinaryFormat.getString(schema));
+            }
+            if (!codec.type().equals(type) || !codec.schema().equals(fields)) {
+                throw new IOException("Esquema incompatível em " + source + ": esperado " + codec.type()
+                        + codec.schema() + ", encontrado " + type + fields);
+            }
+            return in.position();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Cabeçalho truncado: " + source, e);
+        }
+    }
+}
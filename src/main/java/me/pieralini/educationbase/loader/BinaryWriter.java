@@ -0,0 +1,132 @@
+package me.pieralini.educationbase.loader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class BinaryWriter<T> implements Closeable {
+
+    private final FileChannel channel;
+    private final BinaryCodec<T> codec;
+    private final boolean framed;
+    private final ByteBuffer blockHeader = ByteBuffer.allocate(BinaryFormat.BLOCK_HEADER_SIZE);
+    private ByteBuffer block = ByteBuffer.allocate(BinaryFormat.DEFAULT_BLOCK_SIZE);
+    private int blockRecords;
+    private long written;
+
+    private BinaryWriter(FileChannel channel, BinaryCodec<T> codec, boolean framed) {
+        this.channel = channel;
+        this.codec = codec;
+        this.framed = framed;
+    }
+
+    public static <T> BinaryWriter<T> open(Path target, BinaryCodec<T> codec) throws IOException {
+        return open(target, codec, true);
+    }
+
+    static <T> BinaryWriter<T> openBlocks(Path target, BinaryCodec<T> codec) throws IOException {
+        return open(target, codec, false);
+    }
+
+    private static <T> BinaryWriter<T> open(Path target, BinaryCodec<T> codec, boolean framed) throws IOException {
+        FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        BinaryWriter<T> writer = new BinaryWriter<>(channel, codec, framed);
+        if (framed) {
+            try {
+                writer.writeFully(header(codec));
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+        }
+        return writer;
+    }
+
+    static ByteBuffer header(BinaryCodec<?> codec) {
+        ByteBuffer schema = ByteBuffer.allocate(BinaryFormat.DEFAULT_BLOCK_SIZE);
+        BinaryFormat.putString(schema, codec.type());
+        schema.putInt(codec.schema().size());
+        for (String field : codec.schema()) {
+            BinaryFormat.putString(schema, field);
+        }
+        schema.flip();
+        return ByteBuffer.allocate(4 * Integer.BYTES + schema.remaining())
+                .putInt(BinaryFormat.MAGIC)
+                .putInt(BinaryFormat.VERSION)
+                .putInt(schema.remaining())
+                .put(schema.duplicate())
+                .putInt(BinaryFormat.checksum(schema))
+                .flip();
+    }
+
+    static ByteBuffer endMarker() {
+        return ByteBuffer.allocate(BinaryFormat.BLOCK_HEADER_SIZE).putInt(0).putInt(0).putInt(0).flip();
+    }
+
+    public void write(T entity) throws IOException {
+        int start = block.position();
+        try {
+            codec.encode(entity, block);
+            blockRecords++;
+            written++;
+        } catch (BufferOverflowException e) {
+            block.position(start);
+            if (blockRecords > 0) {
+                flushBlock();
+            } else {
+                block = ByteBuffer.allocate(block.capacity() * 2);
+            }
+            write(entity);
+        }
+    }
+
+    public long getWritten() {
+        return written;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (blockRecords > 0) {
+                flushBlock();
+            }
+            if (framed) {
+                writeFully(endMarker());
+            }
+            channel.force(true);
+        } finally {
+            channel.close();
+        }
+    }
+
+    public void abort() throws IOException {
+        channel.close();
+    }
+
+    private void flushBlock() throws IOException {
+        block.flip();
+        blockHeader.clear()
+                .putInt(blockRecords)
+                .putInt(block.remaining())
+                .putInt(BinaryFormat.checksum(block))
+                .flip();
+        writeFully(blockHeader, block);
+        block.clear();
+        blockRecords = 0;
+    }
+
+    private void writeFully(ByteBuffer... buffers) throws IOException {
+        long remaining = 0;
+        for (ByteBuffer buffer : buffers) {
+            remaining += buffer.remaining();
+        }
+        while (remaining > 0) {
+            remaining -= channel.write(buffers);
+        }
+    }
+}
@@ -1,28 +1,61 @@
 package me.pieralini.educationbase.loader;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import me.pieralini.educationbase.config.ConfigManager;
+import me.pieralini.educationbase.config.DatabaseManager;
 import me.pieralini.educationbase.model.Curso;
+import me.pieralini.educationbase.model.DataFingerprint;
 import me.pieralini.educationbase.model.Faculdade;
+import me.pieralini.educationbase.repository.BaseRepository;
+import me.pieralini.educationbase.repository.BatchResult;
 import me.pieralini.educationbase.repository.CursoRepository;
 import me.pieralini.educationbase.repository.FaculdadeRepository;
+import me.pieralini.educationbase.repository.FingerprintRepository;
+import me.pieralini.educationbase.repository.SyncResult;
+import me.pieralini.educationbase.service.CursoService;
+import me.pieralini.educationbase.service.FaculdadeService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import java.util.zip.GZIPOutputStream;
 
 public class DataLoader {
 
     private static final Logger logger = LoggerFactory.getLogger(DataLoader.class);
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+    public static final String CURSOS_RESOURCE = "data/cursos.json";
+    public static final String FACULDADES_RESOURCE = "data/faculdades.json";
+    private static final String CURSOS_TABLE = "cursos";
+    private static final String FACULDADES_TABLE = "faculdades";
     private final ObjectMapper objectMapper;
     private final CursoRepository cursoRepository;
     private final FaculdadeRepository faculdadeRepository;
+    private final FingerprintRepository fingerprintRepository;
+    private final ConfigManager.LoaderConfig loaderConfig;
+    private final int batchSize;
 
     public DataLoader() {
         this.objectMapper = new ObjectMapper();
@@ -30,49 +63,231 @@ public class DataLoader {
         this.objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
         this.cursoRepository = CursoRepository.getInstance();
         this.faculdadeRepository = FaculdadeRepository.getInstance();
+        this.fingerprintRepository = FingerprintRepository.getInstance();
+        this.loaderConfig = ConfigManager.getInstance().getLoaderConfig();
+        this.batchSize = loaderConfig.batchSize();
     }
 
     public void loadAll() {
+        loadAll(fingerprintSources());
+    }
+
+    public void loadAll(Map<String, DataFingerprint> fingerprints) {
         logger.info("Iniciando carregamento de dados JSON...");
-        loadCursos();
-        loadFaculdades();
+        if (loaderConfig.sync()) {
+            if (loaderConfig.streaming()) {
+                logger.warn("loader.streaming é ignorado quando loader.sync está ativo");
+            }
+            loadIfChanged(CURSOS_TABLE, fingerprints.get(CURSOS_RESOURCE), cursoRepository, this::syncCursos);
+            loadIfChanged(FACULDADES_TABLE, fingerprints.get(FACULDADES_RESOURCE), faculdadeRepository, this::syncFaculdades);
+        } else {
+            loadIfChanged(CURSOS_TABLE, fingerprints.get(CURSOS_RESOURCE), cursoRepository,
+                    loaderConfig.streaming() ? this::loadCursosStreaming : this::loadCursos);
+            loadIfChanged(FACULDADES_TABLE, fingerprints.get(FACULDADES_RESOURCE), faculdadeRepository,
+                    loaderConfig.streaming() ? this::loadFaculdadesStreaming : this::loadFaculdades);
+        }
         logger.info("Carregamento de dados concluído!");
     }
 
-    public void loadCursos() {
+    public void loadAllBinary() {
+        loadAllBinary(Path.of("data"));
+    }
+
+    public void loadAllBinary(Path dataDir) {
+        logger.info("Iniciando carregamento de dados binários de {}...", dataDir);
+        Path cursos = dataDir.resolve(fileName("cursos", ExportFormat.BINARY, false));
+        Path faculdades = dataDir.resolve(fileName("faculdades", ExportFormat.BINARY, false));
+        loadIfChanged(CURSOS_TABLE, fingerprint(cursos.toString()).orElse(null), cursoRepository,
+                () -> loadCursosBinary(cursos));
+        loadIfChanged(FACULDADES_TABLE, fingerprint(faculdades.toString()).orElse(null), faculdadeRepository,
+                () -> loadFaculdadesBinary(faculdades));
+        logger.info("Carregamento de dados binários concluído!");
+    }
+
+    private void loadIfChanged(String table, DataFingerprint source, BaseRepository<?, ?> repository,
+                               BooleanSupplier loader) {
+        DataFingerprint fingerprint = source != null
+                ? new DataFingerprint(table, source.sha256(), source.sizeBytes())
+                : null;
+        if (fingerprint != null && !repository.isEmpty()
+                && fingerprint.matches(fingerprintRepository.findByResource(table).orElse(null))) {
+            logger.info("Arquivo {} inalterado ({} bytes), importação ignorada", source.resource(), source.sizeBytes());
+            return;
+        }
+        if (loader.getAsBoolean() && fingerprint != null) {
+            fingerprintRepository.save(fingerprint);
+        }
+    }
+
+    public static Map<String, DataFingerprint> fingerprintSources() {
+        Map<String, DataFingerprint> fingerprints = new HashMap<>();
+        for (String resource : List.of(CURSOS_RESOURCE, FACULDADES_RESOURCE)) {
+            fingerprint(resource).ifPresent(fingerprint -> fingerprints.put(resource, fingerprint));
+        }
+        return fingerprints;
+    }
+
+    public static Optional<DataFingerprint> fingerprint(String resourcePath) {
+        try (InputStream is = openResource(resourcePath)) {
+            if (is == null) {
+                return Optional.empty();
+            }
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[EXPORT_BUFFER_SIZE];
+            long size = 0;
+            int read;
+            while ((read = is.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+                size += read;
+            }
+            return Optional.of(new DataFingerprint(resourcePath, HexFormat.of().formatHex(digest.digest()), size));
+        } catch (IOException | NoSuchAlgorithmException e) {
+            logger.warn("Erro ao calcular impressão digital de {}: {}", resourcePath, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public boolean loadCursosStreaming() {
+        CursoService cursoService = new CursoService();
+        StreamingImporter<Curso> importer = new StreamingImporter<>(objectMapper, Curso.class,
+                cursoService::validarCurso, cursoRepository, batchSize,
+                loaderConfig.queueCapacity(), loaderConfig.writerThreads());
+        try (InputStream is = openResource(CURSOS_RESOURCE)) {
+            if (is != null) {
+                StreamingImporter.ImportStats stats = importer.importFrom(is);
+                logger.info("Cursos carregados (streaming): {} novos de {} lidos ({} já existentes, {} rejeitados)",
+                        stats.inserted(), stats.read(), stats.skipped(), stats.rejected());
+                return complete(stats.complete(), "cursos");
+            }
+        } catch (IOException e) {
+            logger.error("Erro ao carregar cursos: {}", e.getMessage());
+        }
+        return false;
+    }
+
+    public boolean loadFaculdadesStreaming() {
+        FaculdadeService faculdadeService = new FaculdadeService();
+        StreamingImporter<Faculdade> importer = new StreamingImporter<>(objectMapper, Faculdade.class,
+                faculdadeService::validarFaculdade, faculdadeRepository, batchSize,
+                loaderConfig.queueCapacity(), loaderConfig.writerThreads());
+        try (InputStream is = openResource(FACULDADES_RESOURCE)) {
+            if (is != null) {
+                StreamingImporter.ImportStats stats = importer.importFrom(is);
+                logger.info("Faculdades carregadas (streaming): {} novas de {} lidas ({} já existentes, {} rejeitadas)",
+                        stats.inserted(), stats.read(), stats.skipped(), stats.rejected());
+                return complete(stats.complete(), "faculdades");
+            }
+        } catch (IOException e) {
+            logger.error("Erro ao carregar faculdades: {}", e.getMessage());
+        }
+        return false;
+    }
+
+    public boolean syncCursos() {
         try {
-            List<Curso> cursos = loadFromJson("data/cursos.json", new TypeReference<>() {});
+            List<Curso> cursos = loadFromJson(CURSOS_RESOURCE, new TypeReference<>() {});
             if (cursos != null) {
-                int count = 0;
-                for (Curso c : cursos) {
-                    if (!cursoRepository.existsById(c.getId())) {
-                        cursoRepository.save(c);
-                        count++;
-                    }
-                }
-                logger.info("Cursos carregados: {} novos de {} total", count, cursos.size());
+                SyncResult result = cursoRepository.syncByNaturalKey(cursos, loaderConfig.deleteMissing(), batchSize);
+                logger.info("Cursos sincronizados: {} inseridos, {} atualizados, {} removidos, {} inalterados",
+                        result.inserted(), result.updated(), result.deleted(), result.unchanged());
+                return complete(result.complete(), "cursos");
+            }
+        } catch (Exception e) {
+            logger.error("Erro ao sincronizar cursos: {}", e.getMessage());
+        }
+        return false;
+    }
+
+    public boolean syncFaculdades() {
+        try {
+            List<Faculdade> faculdades = loadFromJson(FACULDADES_RESOURCE, new TypeReference<>() {});
+            if (faculdades != null) {
+                SyncResult result = faculdadeRepository.syncByNaturalKey(faculdades, loaderConfig.deleteMissing(), batchSize);
+                logger.info("Faculdades sincronizadas: {} inseridas, {} atualizadas, {} removidas, {} inalteradas",
+                        result.inserted(), result.updated(), result.deleted(), result.unchanged());
+                return complete(result.complete(), "faculdades");
+            }
+        } catch (Exception e) {
+            logger.error("Erro ao sincronizar faculdades: {}", e.getMessage());
+        }
+        return false;
+    }
+
+    public boolean loadCursosBinary(Path source) {
+        try (BinaryReader<Curso> reader = BinaryReader.open(source, BinaryCodecs.CURSO)) {
+            List<Curso> cursos = reader.readAll();
+            if (loaderConfig.sync()) {
+                SyncResult result = cursoRepository.syncByNaturalKey(cursos, loaderConfig.deleteMissing(), batchSize);
+                logger.info("Cursos sincronizados (binário): {} inseridos, {} atualizados, {} removidos, {} inalterados",
+                        result.inserted(), result.updated(), result.deleted(), result.unchanged());
+                return complete(result.complete(), "cursos");
+            } else {
+                BatchResult result = cursoRepository.insertAllMissing(cursos, batchSize);
+                logger.info("Cursos carregados (binário): {} novos de {} total ({} já existentes)",
+                        result.inserted(), result.total(), result.skipped());
+                return complete(result.complete(), "cursos");
+            }
+        } catch (IOException e) {
+            logger.error("Erro ao carregar cursos de {}: {}", source, e.getMessage());
+        }
+        return false;
+    }
+
+    public boolean loadFaculdadesBinary(Path source) {
+        try (BinaryReader<Faculdade> reader = BinaryReader.open(source, BinaryCodecs.FACULDADE)) {
+            List<Faculdade> faculdades = reader.readAll();
+            if (loaderConfig.sync()) {
+                SyncResult result = faculdadeRepository.syncByNaturalKey(faculdades, loaderConfig.deleteMissing(), batchSize);
+                logger.info("Faculdades sincronizadas (binário): {} inseridas, {} atualizadas, {} removidas, {} inalteradas",
+                        result.inserted(), result.updated(), result.deleted(), result.unchanged());
+                return complete(result.complete(), "faculdades");
+            } else {
+                BatchResult result = faculdadeRepository.insertAllMissing(faculdades, batchSize);
+                logger.info("Faculdades carregadas (binário): {} novas de {} total ({} já existentes)",
+                        result.inserted(), result.total(), result.skipped());
+                return complete(result.complete(), "faculdades");
+            }
+        } catch (IOException e) {
+            logger.error("Erro ao carregar faculdades de {}: {}", source, e.getMessage());
+        }
+        return false;
+    }
+
+    public boolean loadCursos() {
+        try {
+            List<Curso> cursos = loadFromJson(CURSOS_RESOURCE, new TypeReference<>() {});
+            if (cursos != null) {
+                BatchResult result = cursoRepository.insertAllMissing(cursos, batchSize);
+                logger.info("Cursos carregados: {} novos de {} total ({} já existentes)",
+                        result.inserted(), result.total(), result.skipped());
+                return complete(result.complete(), "cursos");
             }
         } catch (Exception e) {
             logger.error("Erro ao carregar cursos: {}", e.getMessage());
         }
+        return false;
     }
 
-    public void loadFaculdades() {
+    public boolean loadFaculdades() {
         try {
-            List<Faculdade> faculdades = loadFromJson("data/faculdades.json", new TypeReference<>() {});
+            List<Faculdade> faculdades = loadFromJson(FACULDADES_RESOURCE, new TypeReference<>() {});
             if (faculdades != null) {
-                int count = 0;
-                for (Faculdade f : faculdades) {
-                    if (!faculdadeRepository.existsById(f.getId())) {
-                        faculdadeRepository.save(f);
-                        count++;
-                    }
-                }
-                logger.info("Faculdades carregadas: {} novas de {} total", count, faculdades.size());
+                BatchResult result = faculdadeRepository.insertAllMissing(faculdades, batchSize);
+                logger.info("Faculdades carregadas: {} novas de {} total ({} já existentes)",
+                        result.inserted(), result.total(), result.skipped());
+                return complete(result.complete(), "faculdades");
             }
         } catch (Exception e) {
             logger.error("Erro ao carregar faculdades: {}", e.getMessage());
         }
+        return false;
+    }
+
+    private boolean complete(boolean complete, String table) {
+        if (!complete) {
+            logger.warn("Importação de {} incompleta, o arquivo será reprocessado no próximo carregamento", table);
+        }
+        return complete;
     }
 
     private <T> T loadFromJson(String resourcePath, TypeReference<T> typeReference) {
@@ -97,26 +312,155 @@ public class DataLoader {
         return null;
     }
 
+    private static InputStream openResource(String resourcePath) throws IOException {
+        InputStream is = DataLoader.class.getClassLoader().getResourceAsStream(resourcePath);
+        if (is != null) {
+            return is;
+        }
+
+        Path filePath = Path.of(resourcePath);
+        if (Files.exists(filePath)) {
+            return Files.newInputStream(filePath);
+        }
+
+        logger.warn("Arquivo JSON não encontrado: {}", resourcePath);
+        return null;
+    }
+
     public void exportToJson() {
+        exportStreaming(Path.of("data"), ExportFormat.JSON, false);
+    }
+
+    public void exportToBinary() {
+        exportStreaming(Path.of("data"), ExportFormat.BINARY, false);
+    }
+
+    public void exportStreaming(Path dataDir, ExportFormat format, boolean gzip) {
+        if (format == ExportFormat.BINARY && gzip) {
+            logger.warn("Formato binário não suporta gzip, exportando sem compressão");
+            gzip = false;
+        }
         try {
-            Path dataDir = Path.of("data");
             if (!Files.exists(dataDir)) {
                 Files.createDirectories(dataDir);
             }
 
-            objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+            Path cursosPath = dataDir.resolve(fileName("cursos", format, gzip));
+            long cursos = format == ExportFormat.BINARY
+                    ? exportBinary(cursoRepository, BinaryCodecs.CURSO, cursosPath)
+                    : exportTable(cursoRepository, cursosPath, format, gzip);
+            logger.info("Exportados {} cursos", cursos);
 
-            List<Curso> cursos = cursoRepository.findAll();
-            objectMapper.writeValue(dataDir.resolve("cursos.json").toFile(), cursos);
-            logger.info("Exportados {} cursos", cursos.size());
+            Path faculdadesPath = dataDir.resolve(fileName("faculdades", format, gzip));
+            long faculdades = format == ExportFormat.BINARY
+                    ? exportBinary(faculdadeRepository, BinaryCodecs.FACULDADE, faculdadesPath)
+                    : exportTable(faculdadeRepository, faculdadesPath, format, gzip);
+            logger.info("Exportadas {} faculdades", faculdades);
 
-            List<Faculdade> faculdades = faculdadeRepository.findAll();
-            objectMapper.writeValue(dataDir.resolve("faculdades.json").toFile(), faculdades);
-            logger.info("Exportadas {} faculdades", faculdades.size());
+            logger.info("Exportação concluída para pasta {}", dataDir);
+        } catch (IOException | UncheckedIOException e) {
+            logger.error("Erro ao exportar dados: {}", e.getMessage());
+        }
+    }
 
-            logger.info("Exportação concluída para pasta data/");
+    public void exportParallel(Path dataDir, ExportFormat format, boolean gzip) {
+        if (format == ExportFormat.BINARY && gzip) {
+            logger.warn("Formato binário não suporta gzip, exportando sem compressão");
+            gzip = false;
+        }
+        DatabaseManager databaseManager = DatabaseManager.getInstance();
+        int threads = Math.max(1, Math.min(loaderConfig.exportThreads(), databaseManager.getMaximumPoolSize() - 1));
+        ParallelExporter exporter = new ParallelExporter(databaseManager, objectMapper, threads);
+        long start = System.nanoTime();
+        try {
+            Map<String, Long> rows = exporter.export(dataDir, format, gzip, List.of(
+                    new ParallelExporter.Table<>("cursos", cursoRepository, BinaryCodecs.CURSO),
+                    new ParallelExporter.Table<>("faculdades", faculdadeRepository, BinaryCodecs.FACULDADE)));
+            logger.info("Exportados {} cursos e {} faculdades de um snapshot consistente em {} ms ({} conexões)",
+                    rows.get("cursos"), rows.get("faculdades"), (System.nanoTime() - start) / 1_000_000, threads);
+            logger.info("Exportação concluída para pasta {}", dataDir);
         } catch (IOException e) {
             logger.error("Erro ao exportar dados: {}", e.getMessage());
         }
     }
+
+    private <T> long exportTable(BaseRepository<T, ?> repository, Path target, ExportFormat format, boolean gzip)
+            throws IOException {
+        ObjectWriter rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return writeReplacing(target, file -> {
+            try (OutputStream out = openOutput(file, gzip);
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+                if (format == ExportFormat.NDJSON) {
+                    generator.setRootValueSeparator(null);
+                } else {
+                    generator.writeStartArray();
+                }
+
+                long rows = repository.forEachRow(entity -> {
+                    try {
+                        rowWriter.writeValue(generator, entity);
+                        if (format == ExportFormat.NDJSON) {
+                            generator.writeRaw('\n');
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+
+                if (format == ExportFormat.JSON) {
+                    generator.writeEndArray();
+                }
+                return rows;
+            }
+        });
+    }
+
+    private <T> long exportBinary(BaseRepository<T, ?> repository, BinaryCodec<T> codec, Path target)
+            throws IOException {
+        return writeReplacing(target, file -> {
+            BinaryWriter<T> writer = BinaryWriter.open(file, codec);
+            try {
+                repository.forEachRow(entity -> {
+                    try {
+                        writer.write(entity);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (SQLException | RuntimeException e) {
+                writer.abort();
+                throw e;
+            }
+            writer.close();
+            return writer.getWritten();
+        });
+    }
+
+    private static <R> R writeReplacing(Path target, ExportWork<R> work) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            R result = work.writeTo(temp);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return result;
+        } catch (SQLException e) {
+            Files.deleteIfExists(temp);
+            throw new IOException("Erro ao ler registros para " + target + ": " + e.getMessage(), e);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    static OutputStream openOutput(Path target, boolean gzip) throws IOException {
+        OutputStream out = new BufferedOutputStream(Files.newOutputStream(target), EXPORT_BUFFER_SIZE);
+        return gzip ? new GZIPOutputStream(out, EXPORT_BUFFER_SIZE) : out;
+    }
+
+    static String fileName(String table, ExportFormat format, boolean gzip) {
+        return table + format.getExtension() + (gzip ? ".gz" : "");
+    }
+
+    private interface ExportWork<R> {
+        R writeTo(Path file) throws IOException, SQLException;
+    }
 }
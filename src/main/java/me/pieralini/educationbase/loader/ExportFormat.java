@@ -0,0 +1,17 @@
+package me.pieralini.educationbase.loader;
+
+public enum ExportFormat {
+    JSON(".json"),
+    NDJSON(".ndjson"),
+    BINARY(".ebin");
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,268 @@
+package me.pieralini.educationbase.loader;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import me.pieralini.educationbase.config.DatabaseManager;
+import me.pieralini.educationbase.repository.BaseRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+public class ParallelExporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParallelExporter.class);
+    private static final int PARTITIONS_PER_THREAD = 2;
+
+    private final DatabaseManager databaseManager;
+    private final ObjectMapper objectMapper;
+    private final int threads;
+    private final Map<Partition<?>, Long> exportedRows = new ConcurrentHashMap<>();
+
+    public ParallelExporter(DatabaseManager databaseManager, ObjectMapper objectMapper, int threads) {
+        this.databaseManager = databaseManager;
+        this.objectMapper = objectMapper;
+        this.threads = Math.max(1, threads);
+    }
+
+    public Map<String, Long> export(Path dataDir, ExportFormat format, boolean gzip, List<Table<?>> tables)
+            throws IOException {
+        Files.createDirectories(dataDir);
+        Path workDir = Files.createTempDirectory(dataDir, ".export-");
+        List<Connection> connections = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Partition<?>> partitions = openSnapshot(tables, connections, workDir);
+            logger.debug("Snapshot consistente aberto em {} conexões, {} partições", connections.size(), partitions.size());
+
+            Queue<Partition<?>> pending = new ConcurrentLinkedQueue<>(partitions);
+            List<Future<?>> workers = new ArrayList<>(connections.size());
+            for (Connection conn : connections) {
+                workers.add(executor.submit(() -> {
+                    Partition<?> partition;
+                    while ((partition = pending.poll()) != null) {
+                        exportedRows.put(partition, exportPartition(conn, partition, format, gzip));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+
+            Map<String, Future<Long>> merges = new LinkedHashMap<>();
+            for (Table<?> table : tables) {
+                List<Partition<?>> shards = partitions.stream().filter(p -> p.table() == table).toList();
+                Path target = dataDir.resolve(DataLoader.fileName(table.name(), format, gzip));
+                merges.put(table.name(), executor.submit(() -> merge(table, shards, target, format, gzip)));
+            }
+            Map<String, Long> rows = new LinkedHashMap<>();
+            for (Map.Entry<String, Future<Long>> merge : merges.entrySet()) {
+                rows.put(merge.getKey(), merge.getValue().get());
+            }
+            return rows;
+        } catch (SQLException e) {
+            throw new IOException("Erro ao abrir snapshot consistente: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Exportação interrompida", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof UncheckedIOException unchecked ? unchecked.getCause() : e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            throw new IOException("Erro na exportação paralela: " + cause.getMessage(), cause);
+        } finally {
+            executor.shutdownNow();
+            connections.forEach(this::release);
+            delete(workDir);
+        }
+    }
+
+    private List<Partition<?>> openSnapshot(List<Table<?>> tables, List<Connection> connections, Path workDir)
+            throws SQLException {
+        String lock = tables.stream().map(table -> table.name() + " READ").collect(Collectors.joining(", "));
+        try (Connection coordinator = databaseManager.getConnection();
+             Statement stmt = coordinator.createStatement()) {
+            for (int i = 0; i < threads; i++) {
+                Connection conn = databaseManager.getConnection();
+                connections.add(conn);
+                conn.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+                conn.setAutoCommit(false);
+            }
+            stmt.execute("LOCK TABLES " + lock);
+            try {
+                for (Connection conn : connections) {
+                    try (Statement snapshot = conn.createStatement()) {
+                        snapshot.execute("START TRANSACTION WITH CONSISTENT SNAPSHOT");
+                    }
+                }
+                List<Partition<?>> partitions = new ArrayList<>();
+                for (Table<?> table : tables) {
+                    partitions.addAll(partition(table, table.repository().findIdBounds(coordinator), workDir));
+                }
+                return partitions;
+            } finally {
+                stmt.execute("UNLOCK TABLES");
+            }
+        }
+    }
+
+    private <T> List<Partition<T>> partition(Table<T> table, long[] bounds, Path workDir) {
+        List<Partition<T>> partitions = new ArrayList<>();
+        if (bounds.length == 0) {
+            return partitions;
+        }
+        long count = (long) threads * PARTITIONS_PER_THREAD;
+        long span = Math.max(1, (bounds[1] - bounds[0] + count) / count);
+        for (long from = bounds[0]; from <= bounds[1]; from += span) {
+            int index = partitions.size();
+            partitions.add(new Partition<>(table, index, from, Math.min(from + span, bounds[1] + 1),
+                    workDir.resolve(table.name() + "-" + index)));
+        }
+        return partitions;
+    }
+
+    private <T> long exportPartition(Connection conn, Partition<T> partition, ExportFormat format, boolean gzip)
+            throws IOException, SQLException {
+        BaseRepository<T, ?> repository = partition.table().repository();
+        if (format == ExportFormat.BINARY) {
+            try (BinaryWriter<T> writer = BinaryWriter.openBlocks(partition.shard(), partition.table().codec())) {
+                repository.forEachRowInRange(conn, partition.fromId(), partition.toId(), entity -> {
+                    try {
+                        writer.write(entity);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                return writer.getWritten();
+            }
+        }
+
+        ObjectWriter rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (OutputStream out = DataLoader.openOutput(partition.shard(), gzip);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.setRootValueSeparator(format == ExportFormat.NDJSON ? null : new SerializedString(","));
+            return repository.forEachRowInRange(conn, partition.fromId(), partition.toId(), entity -> {
+                try {
+                    rowWriter.writeValue(generator, entity);
+                    if (format == ExportFormat.NDJSON) {
+                        generator.writeRaw('\n');
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    private long merge(Table<?> table, List<Partition<?>> shards, Path target, ExportFormat format, boolean gzip)
+            throws IOException {
+        long total = 0;
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            if (format == ExportFormat.BINARY) {
+                writeFully(out, BinaryWriter.header(table.codec()));
+            } else if (format == ExportFormat.JSON) {
+                writeFully(out, literal("[", gzip));
+            }
+            for (Partition<?> shard : shards) {
+                long rows = exportedRows.getOrDefault(shard, 0L);
+                if (rows == 0) {
+                    continue;
+                }
+                if (format == ExportFormat.JSON && total > 0) {
+                    writeFully(out, literal(",", gzip));
+                }
+                try (FileChannel in = FileChannel.open(shard.shard(), StandardOpenOption.READ)) {
+                    long size = in.size();
+                    for (long position = 0; position < size; ) {
+                        position += in.transferTo(position, size - position, out);
+                    }
+                }
+                total += rows;
+            }
+            if (format == ExportFormat.BINARY) {
+                writeFully(out, BinaryWriter.endMarker());
+            } else if (format == ExportFormat.JSON) {
+                writeFully(out, literal("]", gzip));
+            } else if (total == 0 && gzip) {
+                writeFully(out, literal("", true));
+            }
+            out.force(true);
+        }
+        return total;
+    }
+
+    private static ByteBuffer literal(String text, boolean gzip) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        if (!gzip) {
+            return ByteBuffer.wrap(bytes);
+        }
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(bytes);
+        }
+        return ByteBuffer.wrap(compressed.toByteArray());
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private void release(Connection conn) {
+        try (conn) {
+            conn.rollback();
+            conn.setAutoCommit(true);
+        } catch (SQLException e) {
+            logger.warn("Erro ao encerrar conexão de exportação: {}", e.getMessage());
+        }
+    }
+
+    private void delete(Path workDir) {
+        try (Stream<Path> files = Files.walk(workDir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            logger.warn("Não foi possível remover arquivos temporários em {}: {}", workDir, e.getMessage());
+        }
+    }
+
+    public record Table<T>(String name, BaseRepository<T, ?> repository, BinaryCodec<T> codec) {}
+
+    private record Partition<T>(Table<T> table, int index, long fromId, long toId, Path shard) {}
+}
@@ -0,0 +1,199 @@
+package me.pieralini.educationbase.loader;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.pieralini.educationbase.repository.BaseRepository;
+import me.pieralini.educationbase.repository.BatchResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+public class StreamingImporter<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(StreamingImporter.class);
+    private static final Object END_OF_RECORDS = new Object();
+    private static final long POLL_MILLIS = 100;
+
+    private final ObjectMapper objectMapper;
+    private final Class<T> type;
+    private final Consumer<T> validator;
+    private final BaseRepository<T, ?> repository;
+    private final int batchSize;
+    private final int queueCapacity;
+    private final int writerThreads;
+
+    public StreamingImporter(ObjectMapper objectMapper, Class<T> type, Consumer<T> validator,
+                             BaseRepository<T, ?> repository, int batchSize, int queueCapacity, int writerThreads) {
+        this.objectMapper = objectMapper;
+        this.type = type;
+        this.validator = validator;
+        this.repository = repository;
+        this.batchSize = batchSize;
+        this.queueCapacity = queueCapacity;
+        this.writerThreads = writerThreads;
+    }
+
+    public ImportStats importFrom(InputStream inputStream) throws IOException {
+        BlockingQueue<Object> parsed = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<List<T>> chunks = new ArrayBlockingQueue<>(writerThreads * 2);
+        List<T> endOfChunks = List.of();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        AtomicLong read = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+        AtomicLong inserted = new AtomicLong();
+        AtomicLong skipped = new AtomicLong();
+
+        ExecutorService executor = Executors.newFixedThreadPool(writerThreads + 1);
+        List<Future<?>> stages = new ArrayList<>(writerThreads + 1);
+        try {
+            stages.add(executor.submit(stage(failure, () -> {
+                List<T> chunk = new ArrayList<>(batchSize);
+                while (true) {
+                    Object next = take(parsed, failure);
+                    if (next == END_OF_RECORDS) {
+                        break;
+                    }
+                    T record = type.cast(next);
+                    try {
+                        validator.accept(record);
+                    } catch (RuntimeException e) {
+                        rejected.incrementAndGet();
+                        logger.debug("Registro rejeitado: {}", e.getMessage());
+                        continue;
+                    }
+                    chunk.add(record);
+                    if (chunk.size() >= batchSize) {
+                        put(chunks, chunk, failure);
+                        chunk = new ArrayList<>(batchSize);
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    put(chunks, chunk, failure);
+                }
+                for (int i = 0; i < writerThreads; i++) {
+                    put(chunks, endOfChunks, failure);
+                }
+            })));
+
+            for (int i = 0; i < writerThreads; i++) {
+                stages.add(executor.submit(stage(failure, () -> {
+                    while (true) {
+                        List<T> chunk = take(chunks, failure);
+                        if (chunk == endOfChunks) {
+                            return;
+                        }
+                        BatchResult result = repository.insertAllMissing(chunk, batchSize);
+                        inserted.addAndGet(result.inserted());
+                        skipped.addAndGet(result.skipped());
+                    }
+                })));
+            }
+
+            try {
+                parse(inputStream, parsed, read, failure);
+                put(parsed, END_OF_RECORDS, failure);
+            } catch (IOException | RuntimeException e) {
+                failure.compareAndSet(null, e);
+            }
+
+            for (Future<?> stage : stages) {
+                try {
+                    stage.get();
+                } catch (ExecutionException | CancellationException e) {
+                    stages.forEach(other -> other.cancel(true));
+                }
+            }
+        } catch (InterruptedException e) {
+            stages.forEach(stage -> stage.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IOException("Importação interrompida", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Throwable first = failure.get();
+        if (first instanceof IOException e) {
+            throw e;
+        }
+        if (first != null) {
+            throw new IOException("Erro no pipeline de importação", first);
+        }
+        return new ImportStats(read.get(), rejected.get(), inserted.get(), skipped.get());
+    }
+
+    private static Callable<Void> stage(AtomicReference<Throwable> failure, Stage work) {
+        return () -> {
+            try {
+                work.run();
+            } catch (Throwable e) {
+                failure.compareAndSet(null, e);
+                throw e;
+            }
+            return null;
+        };
+    }
+
+    private static <E> void put(BlockingQueue<E> queue, E item, AtomicReference<Throwable> failure)
+            throws InterruptedException {
+        while (!queue.offer(item, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+            abortIfFailed(failure);
+        }
+    }
+
+    private static <E> E take(BlockingQueue<E> queue, AtomicReference<Throwable> failure)
+            throws InterruptedException {
+        E item;
+        while ((item = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS)) == null) {
+            abortIfFailed(failure);
+        }
+        return item;
+    }
+
+    private static void abortIfFailed(AtomicReference<Throwable> failure) {
+        if (failure.get() != null) {
+            throw new CancellationException("Importação abortada após falha em outra etapa");
+        }
+    }
+
+    private void parse(InputStream inputStream, BlockingQueue<Object> parsed, AtomicLong read,
+                       AtomicReference<Throwable> failure) throws IOException, InterruptedException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Esperado um array JSON de registros");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                put(parsed, objectMapper.readValue(parser, type), failure);
+                read.incrementAndGet();
+            }
+        }
+    }
+
+    private interface Stage {
+        void run() throws Exception;
+    }
+
+    public record ImportStats(long read, long rejected, long inserted, long skipped) {
+
+        public boolean complete() {
+            return rejected + inserted + skipped == read;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package me.pieralini.educationbase.metrics;
+
+public interface OperationStatsMBean {
+
+    String getName();
+
+    long getCount();
+
+    long getErrors();
+
+    long getRows();
+
+    double getMeanMillis();
+
+    double getP50Millis();
+
+    double getP95Millis();
+
+    double getP99Millis();
+
+    double getMaxMillis();
+
+    void reset();
+}
@@ -0,0 +1,76 @@
+package me.pieralini.educationbase.metrics;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+public class PoolMetrics implements PoolMetricsMBean {
+
+    private final HikariDataSource dataSource;
+    private final LatencyHistogram waitTime = new LatencyHistogram();
+
+    public PoolMetrics(HikariDataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public void recordWait(long nanos) {
+        waitTime.record(nanos);
+    }
+
+    public LatencyHistogram getWaitTime() {
+        return waitTime;
+    }
+
+    private HikariPoolMXBean pool() {
+        return dataSource.getHikariPoolMXBean();
+    }
+
+    @Override
+    public int getActiveConnections() {
+        return pool().getActiveConnections();
+    }
+
+    @Override
+    public int getIdleConnections() {
+        return pool().getIdleConnections();
+    }
+
+    @Override
+    public int getTotalConnections() {
+        return pool().getTotalConnections();
+    }
+
+    @Override
+    public int getPendingThreads() {
+        return pool().getThreadsAwaitingConnection();
+    }
+
+    @Override
+    public int getMaximumPoolSize() {
+        return dataSource.getMaximumPoolSize();
+    }
+
+    @Override
+    public long getConnectionRequests() {
+        return waitTime.getCount();
+    }
+
+    @Override
+    public double getMeanWaitMillis() {
+        return waitTime.getMeanMillis();
+    }
+
+    @Override
+    public double getP95WaitMillis() {
+        return waitTime.getPercentileMillis(95);
+    }
+
+    @Override
+    public double getP99WaitMillis() {
+        return waitTime.getPercentileMillis(99);
+    }
+
+    @Override
+    public double getMaxWaitMillis() {
+        return waitTime.getMaxMillis();
+    }
+}
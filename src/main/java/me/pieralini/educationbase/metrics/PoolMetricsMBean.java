@@ -0,0 +1,24 @@
+package me.pieralini.educationbase.metrics;
+
+public interface PoolMetricsMBean {
+
+    int getActiveConnections();
+
+    int getIdleConnections();
+
+    int getTotalConnections();
+
+    int getPendingThreads();
+
+    int getMaximumPoolSize();
+
+    long getConnectionRequests();
+
+    double getMeanWaitMillis();
+
+    double getP95WaitMillis();
+
+    double getP99WaitMillis();
+
+    double getMaxWaitMillis();
+}
@@ -0,0 +1,85 @@
+package me.pieralini.educationbase.metrics;
+
+import me.pieralini.educationbase.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+public class QueryMetrics {
+
+    public static final String JMX_DOMAIN = "me.pieralini.educationbase";
+    private static final Logger logger = LoggerFactory.getLogger(QueryMetrics.class);
+    private static QueryMetrics instance;
+
+    private final boolean enabled;
+    private final long slowQueryNanos;
+    private final boolean jmxEnabled;
+    private final Map<String, OperationStats> operations = new ConcurrentHashMap<>();
+    private final Map<String, OperationStats> statements = new ConcurrentHashMap<>();
+
+    private QueryMetrics(ConfigManager.MetricsConfig config) {
+        this.enabled = config.enabled();
+        this.slowQueryNanos = TimeUnit.MILLISECONDS.toNanos(config.slowQueryMillis());
+        this.jmxEnabled = config.jmx();
+    }
+
+    public static synchronized QueryMetrics getInstance() {
+        if (instance == null) {
+            instance = new QueryMetrics(ConfigManager.getInstance().getMetricsConfig());
+        }
+        return instance;
+    }
+
+    public QueryTimer start(String operation, String sql) {
+        return new QueryTimer(this, operation, sql);
+    }
+
+    void record(String operation, String sql, long nanos, long rows, boolean error) {
+        if (!enabled) {
+            return;
+        }
+        operations.computeIfAbsent(operation, name -> register("Operation", name)).record(nanos, rows, error);
+        statements.computeIfAbsent(sql, name -> register("Statement", name)).record(nanos, rows, error);
+
+        if (nanos >= slowQueryNanos) {
+            logger.warn("Consulta lenta ({} ms, {} linhas) em {}: {}",
+                    TimeUnit.NANOSECONDS.toMillis(nanos), rows, operation, sql.strip());
+        }
+    }
+
+    public List<OperationStats> getOperations() {
+        return List.copyOf(operations.values());
+    }
+
+    public List<OperationStats> getStatements() {
+        return List.copyOf(statements.values());
+    }
+
+    public static void registerMBean(Object mbean, String type, String name) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(JMX_DOMAIN + ":type=" + type + ",name=" + ObjectName.quote(name));
+            if (!server.isRegistered(objectName)) {
+                server.registerMBean(mbean, objectName);
+            }
+        } catch (JMException e) {
+            logger.warn("Erro ao registrar MBean {}: {}", name, e.getMessage());
+        }
+    }
+
+    private OperationStats register(String type, String name) {
+        OperationStats stats = new OperationStats(name.strip());
+        if (jmxEnabled) {
+            registerMBean(stats, type, stats.getName());
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,28 @@
+package me.pieralini.educationbase.metrics;
+
+public final class QueryTimer implements AutoCloseable {
+
+    private final QueryMetrics metrics;
+    private final String operation;
+    private final String sql;
+    private final long startNanos;
+    private long rows;
+    private boolean succeeded;
+
+    QueryTimer(QueryMetrics metrics, String operation, String sql) {
+        this.metrics = metrics;
+        this.operation = operation;
+        this.sql = sql;
+        this.startNanos = System.nanoTime();
+    }
+
+    public void success(long rowCount) {
+        this.rows = rowCount;
+        this.succeeded = true;
+    }
+
+    @Override
+    public void close() {
+        metrics.record(operation, sql, System.nanoTime() - startNanos, rows, !succeeded);
+    }
+}
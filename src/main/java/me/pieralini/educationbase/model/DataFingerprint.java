@@ -0,0 +1,8 @@
+package me.pieralini.educationbase.model;
+
+public record DataFingerprint(String resource, String sha256, long sizeBytes) {
+
+    public boolean matches(DataFingerprint other) {
+        return other != null && sizeBytes == other.sizeBytes && sha256.equals(other.sha256);
+    }
+}
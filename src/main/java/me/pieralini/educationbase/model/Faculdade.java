@@ -4,7 +4,7 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class Faculdade {
@@ -17,6 +17,7 @@ public class Faculdade {
     private LocalDateTime createdAt = LocalDateTime.now();
     @Builder.Default
     private LocalDateTime updatedAt = LocalDateTime.now();
+    private Long version;
 
     public enum TipoGraduacao {
         BACHARELADO, TECNOLOGO, LICENCIATURA
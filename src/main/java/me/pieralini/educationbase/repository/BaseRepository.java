@@ -1,68 +1,411 @@
 package me.pieralini.educationbase.repository;
 
+import me.pieralini.educationbase.cache.CacheStats;
+import me.pieralini.educationbase.cache.EntityCache;
+import me.pieralini.educationbase.config.ConfigManager;
 import me.pieralini.educationbase.config.DatabaseManager;
+import me.pieralini.educationbase.config.ReadReplica;
+import me.pieralini.educationbase.config.ReplicaRouter;
+import me.pieralini.educationbase.config.Transaction;
+import me.pieralini.educationbase.config.TransactionException;
+import me.pieralini.educationbase.events.ChangeEvent;
+import me.pieralini.educationbase.events.ChangeEventBus;
+import me.pieralini.educationbase.metrics.QueryMetrics;
+import me.pieralini.educationbase.metrics.QueryTimer;
+import me.pieralini.educationbase.search.SearchIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.*;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public abstract class BaseRepository<T, ID> {
 
     protected final Logger logger = LoggerFactory.getLogger(getClass());
+    protected static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
     protected final DatabaseManager databaseManager;
+    protected final EntityCache<ID, T> entityCache;
+    protected final EntityCache<String, List<T>> queryCache;
+    protected final boolean upsertEnabled;
+    protected final QueryMetrics queryMetrics;
+    protected final String columnList;
+    private final String tableName;
+    private final List<String> columns;
+    private final long summaryMaxAgeNanos;
+    private final ChangeEventBus changeEvents;
+    private volatile long lastWriteNanos = System.nanoTime() - Long.MAX_VALUE / 2;
 
-    protected BaseRepository() {
+    protected BaseRepository(String tableName, List<String> columns) {
+        this.tableName = tableName;
+        this.columns = List.copyOf(columns);
         this.databaseManager = DatabaseManager.getInstance();
+        var cacheConfig = ConfigManager.getInstance().getCacheConfig();
+        int maxSize = cacheConfig.enabled() ? cacheConfig.maxSize() : 0;
+        Duration ttl = Duration.ofSeconds(cacheConfig.ttlSeconds());
+        this.entityCache = new EntityCache<>(tableName + ".entidades", maxSize, ttl);
+        this.queryCache = new EntityCache<>(tableName + ".consultas", maxSize, ttl);
+        this.upsertEnabled = ConfigManager.getInstance().getRepositoryConfig().upsert();
+        this.summaryMaxAgeNanos = TimeUnit.SECONDS.toNanos(
+                ConfigManager.getInstance().getRepositoryConfig().summaryRefreshSeconds());
+        this.queryMetrics = QueryMetrics.getInstance();
+        this.changeEvents = ChangeEventBus.getInstance();
+        this.columnList = String.join(", ", this.columns);
     }
 
-    protected abstract String getTableName();
-    protected abstract T mapResultSet(ResultSet rs) throws SQLException;
+    protected final String getTableName() {
+        return tableName;
+    }
+
+    protected final List<String> getColumns() {
+        return columns;
+    }
+
+    protected abstract RowMapper<T> createRowMapper(ColumnIndex columns);
     protected abstract void setInsertParameters(PreparedStatement stmt, T entity) throws SQLException;
-    protected abstract void setUpdateParameters(PreparedStatement stmt, T entity) throws SQLException;
+    protected abstract int setUpdateParameters(PreparedStatement stmt, T entity) throws SQLException;
     protected abstract ID getId(T entity);
+    protected abstract String getInsertSql();
+    protected abstract String getUpdateSql();
+    protected abstract String getUpsertSql();
+    protected abstract void setUpsertParameters(PreparedStatement stmt, T entity) throws SQLException;
+    protected abstract void prepareInsert(T entity);
+    protected abstract void prepareUpdate(T entity);
+    protected abstract void assignGeneratedKey(T entity, ResultSet keys) throws SQLException;
+    protected abstract void setId(T entity, ID id);
+    protected abstract Long getVersion(T entity);
+    protected abstract void setVersion(T entity, Long version);
+    protected abstract T copy(T entity);
+    protected abstract NaturalKey<T> getNaturalKey();
 
     public Optional<T> findById(ID id) {
-        String sql = "SELECT * FROM " + getTableName() + " WHERE id = ?";
-        try (Connection conn = databaseManager.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setObject(1, id);
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return Optional.of(mapResultSet(rs));
+        if (inTransaction()) {
+            return loadById(id);
+        }
+        return Optional.ofNullable(entityCache.getOrLoad(id, () -> loadById(id).orElse(null))).map(this::copy);
+    }
+
+    private Optional<T> loadById(ID id) {
+        String sql = "SELECT " + columnList + " FROM " + getTableName() + " WHERE id = ?";
+        try (QueryTimer timer = timer("findById", sql)) {
+            Optional<T> result = read(conn -> {
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    applyDeadline(stmt);
+                    stmt.setObject(1, id);
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        return rs.next() ? Optional.of(rowMapper(rs).map(rs)) : Optional.<T>empty();
+                    }
                 }
-            }
+            });
+            timer.success(result.isPresent() ? 1 : 0);
+            return result;
         } catch (SQLException e) {
+            failIfUnrecoverable(e);
             logger.error("Erro ao buscar por ID: {}", e.getMessage());
         }
         return Optional.empty();
     }
 
     public List<T> findAll() {
-        List<T> results = new ArrayList<>();
-        String sql = "SELECT * FROM " + getTableName();
-        try (Connection conn = databaseManager.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
-            while (rs.next()) {
-                results.add(mapResultSet(rs));
-            }
+        String sql = "SELECT " + columnList + " FROM " + getTableName();
+        try (QueryTimer timer = timer("findAll", sql)) {
+            List<T> results = read(conn -> queryList(conn, sql));
+            timer.success(results.size());
+            return results;
         } catch (SQLException e) {
+            failIfUnrecoverable(e);
             logger.error("Erro ao listar todos: {}", e.getMessage());
         }
-        return results;
+        return new ArrayList<>();
+    }
+
+    protected List<T> loadAllOrderedById() throws SQLException {
+        String sql = "SELECT " + columnList + " FROM " + getTableName() + " ORDER BY id";
+        try (QueryTimer timer = timer("loadAllOrderedById", sql)) {
+            List<T> results = read(conn -> queryList(conn, sql));
+            timer.success(results.size());
+            return results;
+        }
+    }
+
+    public List<T> findPage(ID afterId, int limit) {
+        if (afterId == null) {
+            return executeQuery("SELECT " + columnList + " FROM " + getTableName() + " ORDER BY id LIMIT ?", limit);
+        }
+        return executeQuery("SELECT " + columnList + " FROM " + getTableName() + " WHERE id > ? ORDER BY id LIMIT ?", afterId, limit);
+    }
+
+    public List<T> findAll(Collection<String> columns) {
+        return executeQuery("SELECT " + projection(columns) + " FROM " + getTableName() + " ORDER BY id");
+    }
+
+    public List<T> findPage(ID afterId, int limit, Collection<String> columns) {
+        String select = "SELECT " + projection(columns) + " FROM " + getTableName();
+        if (afterId == null) {
+            return executeQuery(select + " ORDER BY id LIMIT ?", limit);
+        }
+        return executeQuery(select + " WHERE id > ? ORDER BY id LIMIT ?", afterId, limit);
+    }
+
+    public Stream<T> streamAll() {
+        String sql = "SELECT " + columnList + " FROM " + getTableName() + " ORDER BY id";
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        RowMapper<T> mapper;
+        QueryTimer timer = timer("streamAll", sql);
+        try {
+            conn = getReadConnection();
+            stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            applyDeadline(stmt);
+            stmt.setFetchSize(STREAMING_FETCH_SIZE);
+            rs = stmt.executeQuery();
+            mapper = rowMapper(rs);
+            timer.success(0);
+        } catch (SQLException e) {
+            failIfUnrecoverable(e);
+            logger.error("Erro ao abrir stream: {}", e.getMessage());
+            closeQuietly(rs, stmt, conn, timer);
+            return Stream.empty();
+        }
+
+        ResultSet resultSet = rs;
+        Runnable close = closer(rs, stmt, conn, timer);
+        long[] rows = {0};
+        Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    if (!resultSet.next()) {
+                        close.run();
+                        return false;
+                    }
+                    action.accept(mapper.map(resultSet));
+                    timer.success(++rows[0]);
+                    return true;
+                } catch (SQLException e) {
+                    failIfUnrecoverable(e);
+                    close.run();
+                    throw new IllegalStateException("Erro ao percorrer stream: " + e.getMessage(), e);
+                }
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(close);
+    }
+
+    public long forEachRow(Consumer<? super T> action) throws SQLException {
+        long rows = 0;
+        String sql = "SELECT " + columnList + " FROM " + getTableName();
+        try (QueryTimer timer = timer("forEachRow", sql);
+             Connection conn = getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            applyDeadline(stmt);
+            stmt.setFetchSize(STREAMING_FETCH_SIZE);
+            try (ResultSet rs = stmt.executeQuery()) {
+                RowMapper<T> mapper = rowMapper(rs);
+                while (rs.next()) {
+                    action.accept(mapper.map(rs));
+                    rows++;
+                }
+            }
+            timer.success(rows);
+        } catch (SQLException e) {
+            failIfUnrecoverable(e);
+            throw e;
+        }
+        return rows;
+    }
+
+    protected <K> Map<K, Long> countGroupedBy(String column, RowMapper<K> keyMapper) {
+        String sql = "SELECT " + column + ", COUNT(*) FROM " + getTableName() + " GROUP BY " + column;
+        try (QueryTimer timer = timer("countGroupedBy", sql)) {
+            Map<K, Long> counts = read(conn -> {
+                Map<K, Long> groups = new HashMap<>();
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    applyDeadline(stmt);
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            groups.merge(keyMapper.map(rs), rs.getLong(2), Long::sum);
+                        }
+                    }
+                }
+                return groups;
+            });
+            timer.success(counts.size());
+            return counts;
+        } catch (SQLException e) {
+            failIfUnrecoverable(e);
+            logger.error("Erro ao agrupar registros: {}", e.getMessage());
+        }
+        return new HashMap<>();
+    }
+
+    @SuppressWarnings("unchecked")
+    <K> boolean rebuildGroupCounter(GroupCounter<ID, K> counter, List<String> keyColumns, RowMapper<K> keyMapper) {
+        String sql = "SELECT id, " + String.join(", ", keyColumns) + " FROM " + getTableName();
+        counter.beginRebuild();
+        try (QueryTimer timer = timer("rebuildGroupCounter", sql);
+             Connection conn = getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            applyDeadline(stmt);
+            stmt.setFetchSize(STREAMING_FETCH_SIZE);
+            Map<ID, K> keys = new HashMap<>();
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    keys.put((ID) rs.getObject(1), keyMapper.map(rs));
+                }
+            }
+            counter.completeRebuild(keys);
+            timer.success(keys.size());
+            return true;
+        } catch (SQLException e) {
+            counter.abortRebuild();
+            failIfUnrecoverable(e);
+            logger.error("Erro ao construir resumo estatístico: {}", e.getMessage());
+        }
+        return false;
+    }
+
+    <K> boolean useSummary(GroupCounter<ID, K> counter, Runnable rebuild) {
+        if (inTransaction()) {
+            return false;
+        }
+        if (counter.claimRefresh(summaryMaxAgeNanos)) {
+            rebuild.run();
+        }
+        return counter.isReady();
+    }
+
+    List<T> withStaleRows(List<T> rows, ColumnarOverlay<ID, ?> overlay, Comparator<T> order) {
+        Set<ID> stale = overlay.staleIds();
+        if (stale.isEmpty()) {
+            return rows;
+        }
+        List<T> patched = new ArrayList<>(rows.size() + stale.size());
+        for (T row : rows) {
+            if (!stale.contains(getId(row))) {
+                patched.add(row);
+            }
+        }
+        patched.addAll(findAllById(stale, stale.size()));
+        patched.sort(order);
+        return patched;
+    }
+
+    boolean rebuildSearchIndex(SearchIndex<T> index) {
+        String sql = "SELECT " + columnList + " FROM " + getTableName();
+        index.beginRebuild();
+        try (QueryTimer timer = timer("rebuildSearchIndex", sql);
+             Connection conn = getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            applyDeadline(stmt);
+            stmt.setFetchSize(STREAMING_FETCH_SIZE);
+            List<T> entities = new ArrayList<>();
+            try (ResultSet rs = stmt.executeQuery()) {
+                RowMapper<T> mapper = rowMapper(rs);
+                while (rs.next()) {
+                    entities.add(mapper.map(rs));
+                }
+            }
+            index.completeRebuild(entities);
+            timer.success(entities.size());
+            return true;
+        } catch (SQLException e) {
+            index.abortRebuild();
+            failIfUnrecoverable(e);
+            logger.error("Erro ao construir índice de busca: {}", e.getMessage());
+        }
+        return false;
+    }
+
+    public long[] findIdBounds(Connection conn) throws SQLException {
+        String sql = "SELECT MIN(id), MAX(id) FROM " + getTableName();
+        try (QueryTimer timer = timer("findIdBounds", sql);
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            applyDeadline(stmt);
+            try (ResultSet rs = stmt.executeQuery()) {
+                long[] bounds = rs.next() && rs.getObject(1) != null
+                        ? new long[]{rs.getLong(1), rs.getLong(2)}
+                        : new long[0];
+                timer.success(bounds.length > 0 ? 1 : 0);
+                return bounds;
+            }
+        }
+    }
+
+    public long[] findHighWaterMark() throws SQLException {
+        String sql = "SELECT COUNT(*), COALESCE(MAX(id), 0), COALESCE(SUM(version), 0) FROM " + getTableName();
+        try (QueryTimer timer = timer("findHighWaterMark", sql);
+             Connection conn = getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            applyDeadline(stmt);
+            try (ResultSet rs = stmt.executeQuery()) {
+                rs.next();
+                long[] mark = {rs.getLong(1), rs.getLong(2), rs.getLong(3)};
+                timer.success(1);
+                return mark;
+            }
+        }
+    }
+
+    public long forEachRowInRange(Connection conn, long fromId, long toId, Consumer<? super T> action)
+            throws SQLException {
+        long rows = 0;
+        String sql = "SELECT " + columnList + " FROM " + getTableName() + " WHERE id >= ? AND id < ? ORDER BY id";
+        try (QueryTimer timer = timer("forEachRowInRange", sql);
+             PreparedStatement stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            applyDeadline(stmt);
+            stmt.setFetchSize(STREAMING_FETCH_SIZE);
+            stmt.setLong(1, fromId);
+            stmt.setLong(2, toId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                RowMapper<T> mapper = rowMapper(rs);
+                while (rs.next()) {
+                    action.accept(mapper.map(rs));
+                    rows++;
+                }
+            }
+            timer.success(rows);
+        }
+        return rows;
     }
 
     public boolean deleteById(ID id) {
         String sql = "DELETE FROM " + getTableName() + " WHERE id = ?";
-        try (Connection conn = databaseManager.getConnection();
+        try (QueryTimer timer = timer("deleteById", sql);
+             Connection conn = getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
+            applyDeadline(stmt);
             stmt.setObject(1, id);
             int affected = stmt.executeUpdate();
+            timer.success(affected);
+            if (affected > 0) {
+                publishDeleted(id);
+            }
             return affected > 0;
         } catch (SQLException e) {
+            failIfUnrecoverable(e);
             logger.error("Erro ao deletar: {}", e.getMessage());
             return false;
         }
@@ -70,60 +413,847 @@ public abstract class BaseRepository<T, ID> {
 
     public long count() {
         String sql = "SELECT COUNT(*) FROM " + getTableName();
-        try (Connection conn = databaseManager.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
-            if (rs.next()) {
-                return rs.getLong(1);
-            }
+        try (QueryTimer timer = timer("count", sql)) {
+            long total = read(conn -> {
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    applyDeadline(stmt);
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        return rs.next() ? rs.getLong(1) : 0L;
+                    }
+                }
+            });
+            timer.success(1);
+            return total;
         } catch (SQLException e) {
+            failIfUnrecoverable(e);
             logger.error("Erro ao contar: {}", e.getMessage());
         }
         return 0;
     }
 
-    public boolean existsById(ID id) {
-        String sql = "SELECT 1 FROM " + getTableName() + " WHERE id = ?";
-        try (Connection conn = databaseManager.getConnection();
+    public boolean isEmpty() {
+        String sql = "SELECT 1 FROM " + getTableName() + " LIMIT 1";
+        try (QueryTimer timer = timer("isEmpty", sql);
+             Connection conn = getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setObject(1, id);
+            applyDeadline(stmt);
             try (ResultSet rs = stmt.executeQuery()) {
-                return rs.next();
+                boolean empty = !rs.next();
+                timer.success(empty ? 0 : 1);
+                return empty;
             }
         } catch (SQLException e) {
+            failIfUnrecoverable(e);
+            logger.error("Erro ao verificar se a tabela está vazia: {}", e.getMessage());
+        }
+        return true;
+    }
+
+    public boolean existsById(ID id) {
+        return exists(id, false);
+    }
+
+    protected boolean existsOnPrimary(ID id) {
+        return exists(id, true);
+    }
+
+    private boolean exists(ID id, boolean primary) {
+        String sql = "SELECT 1 FROM " + getTableName() + " WHERE id = ?";
+        SqlFunction<Boolean> query = conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                applyDeadline(stmt);
+                stmt.setObject(1, id);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    return rs.next();
+                }
+            }
+        };
+        try (QueryTimer timer = timer("existsById", sql)) {
+            boolean exists;
+            if (primary) {
+                try (Connection conn = getConnection()) {
+                    exists = query.apply(conn);
+                }
+            } else {
+                exists = read(query);
+            }
+            timer.success(exists ? 1 : 0);
+            return exists;
+        } catch (SQLException e) {
+            failIfUnrecoverable(e);
             logger.error("Erro ao verificar existência: {}", e.getMessage());
         }
         return false;
     }
 
     protected List<T> executeQuery(String sql, Object... params) {
+        List<T> results = tryQuery(sql, params);
+        return results != null ? results : new ArrayList<>();
+    }
+
+    private List<T> tryQuery(String sql, Object... params) {
+        try (QueryTimer timer = timer("executeQuery", sql)) {
+            List<T> results = read(conn -> queryList(conn, sql, params));
+            timer.success(results.size());
+            return results;
+        } catch (SQLException e) {
+            failIfUnrecoverable(e);
+            logger.error("Erro na consulta: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    private List<T> queryList(Connection conn, String sql, Object... params) throws SQLException {
         List<T> results = new ArrayList<>();
-        try (Connection conn = databaseManager.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            applyDeadline(stmt);
             for (int i = 0; i < params.length; i++) {
                 stmt.setObject(i + 1, params[i]);
             }
             try (ResultSet rs = stmt.executeQuery()) {
+                RowMapper<T> mapper = rowMapper(rs);
                 while (rs.next()) {
-                    results.add(mapResultSet(rs));
+                    results.add(mapper.map(rs));
                 }
             }
-        } catch (SQLException e) {
-            logger.error("Erro na consulta: {}", e.getMessage());
         }
         return results;
     }
 
     protected int executeUpdate(String sql, Object... params) {
-        try (Connection conn = databaseManager.getConnection();
+        try (QueryTimer timer = timer("executeUpdate", sql);
+             Connection conn = getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
+            applyDeadline(stmt);
             for (int i = 0; i < params.length; i++) {
                 stmt.setObject(i + 1, params[i]);
             }
-            return stmt.executeUpdate();
+            int affected = stmt.executeUpdate();
+            markWrite();
+            timer.success(affected);
+            return affected;
         } catch (SQLException e) {
+            failIfUnrecoverable(e);
             logger.error("Erro na atualização: {}", e.getMessage());
             return 0;
         }
     }
+
+    public Optional<T> upsert(T entity) {
+        boolean novo = getId(entity) == null;
+        if (novo) {
+            prepareInsert(entity);
+        } else {
+            prepareUpdate(entity);
+        }
+        try (QueryTimer timer = timer("upsert", getUpsertSql());
+             Connection conn = getConnection();
+             PreparedStatement stmt = conn.prepareStatement(getUpsertSql(), Statement.RETURN_GENERATED_KEYS)) {
+            applyDeadline(stmt);
+            setUpsertParameters(stmt, entity);
+            int affected = stmt.executeUpdate();
+            timer.success(affected);
+            if (novo) {
+                try (ResultSet keys = stmt.getGeneratedKeys()) {
+                    if (keys.next()) {
+                        assignGeneratedKey(entity, keys);
+                    }
+                }
+            }
+            applyUpsertVersion(entity, affected);
+            publishSaved(entity, upsertOperation(affected));
+            return Optional.of(entity);
+        } catch (SQLException e) {
+            failIfUnrecoverable(e);
+            logger.error("Erro ao gravar (upsert): {}", e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    public int[] saveAll(List<T> entities, int batchSize) {
+        boolean[] novo = new boolean[entities.size()];
+        List<T> novos = new ArrayList<>();
+        List<T> existentes = new ArrayList<>();
+        for (int i = 0; i < entities.size(); i++) {
+            novo[i] = getId(entities.get(i)) == null;
+            (novo[i] ? novos : existentes).add(entities.get(i));
+        }
+        int[] inserted = new int[novos.size()];
+        int[] upserted = new int[existentes.size()];
+        Arrays.fill(inserted, Statement.EXECUTE_FAILED);
+        Arrays.fill(upserted, Statement.EXECUTE_FAILED);
+        try {
+            writeInserts(novos, batchSize, inserted);
+        } catch (SQLException e) {
+            failIfUnrecoverable(e);
+            logger.error("Erro na inserção em lote: {}", e.getMessage());
+        }
+        try {
+            writeUpserts(existentes, batchSize, upserted);
+        } catch (SQLException e) {
+            failIfUnrecoverable(e);
+            logger.error("Erro na gravação em lote (upsert): {}", e.getMessage());
+        }
+
+        int[] affected = new int[entities.size()];
+        int nextInserted = 0;
+        int nextUpserted = 0;
+        for (int i = 0; i < entities.size(); i++) {
+            affected[i] = novo[i] ? inserted[nextInserted++] : upserted[nextUpserted++];
+        }
+        return affected;
+    }
+
+    private void writeUpserts(List<T> entities, int batchSize, int[] affected) throws SQLException {
+        if (entities.isEmpty()) {
+            return;
+        }
+        try (QueryTimer timer = timer("saveAll", getUpsertSql());
+             Connection conn = getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(getUpsertSql())) {
+                applyDeadline(stmt);
+                for (int from = 0; from < entities.size(); from += batchSize) {
+                    List<T> chunk = entities.subList(from, Math.min(from + batchSize, entities.size()));
+                    for (T entity : chunk) {
+                        prepareUpdate(entity);
+                        setUpsertParameters(stmt, entity);
+                        stmt.addBatch();
+                    }
+                    int[] counts = stmt.executeBatch();
+                    conn.commit();
+                    for (int i = 0; i < chunk.size(); i++) {
+                        affected[from + i] = i < counts.length ? counts[i] : Statement.SUCCESS_NO_INFO;
+                        applyUpsertVersion(chunk.get(i), affected[from + i]);
+                        publishSaved(chunk.get(i), upsertOperation(affected[from + i]));
+                    }
+                }
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+            timer.success(entities.size());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public SyncResult syncByNaturalKey(List<T> entities, boolean deleteMissing, int batchSize) {
+        NaturalKey<T> naturalKey = getNaturalKey();
+        Map<String, T> incoming = new LinkedHashMap<>();
+        for (T entity : entities) {
+            if (incoming.put(naturalKey.keyOf(entity), entity) != null) {
+                logger.warn("Chave natural duplicada no arquivo de {}: {}", getTableName(),
+                        naturalKey.keyOf(entity).replace(NaturalKey.SEPARATOR, '|'));
+            }
+        }
+
+        Map<String, ID> existingIds = new HashMap<>();
+        Map<String, String> existingHashes = new HashMap<>();
+        List<ID> toDelete = new ArrayList<>();
+        String sql = "SELECT id, " + String.join(", ", naturalKey.keyColumns()) + ", " + naturalKey.contentHashSql()
+                + " FROM " + getTableName() + " ORDER BY id";
+        int keyCount = naturalKey.keyColumns().size();
+        try (QueryTimer timer = timer("syncByNaturalKey", sql);
+             Connection conn = getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            applyDeadline(stmt);
+            stmt.setFetchSize(STREAMING_FETCH_SIZE);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<Object> key = new ArrayList<>(keyCount);
+                while (rs.next()) {
+                    key.clear();
+                    for (int i = 0; i < keyCount; i++) {
+                        key.add(rs.getString(i + 2));
+                    }
+                    String joined = NaturalKey.join(key);
+                    ID id = (ID) rs.getObject(1);
+                    if (existingIds.putIfAbsent(joined, id) == null) {
+                        existingHashes.put(joined, rs.getString(keyCount + 2));
+                    } else {
+                        toDelete.add(id);
+                    }
+                }
+            }
+            timer.success(existingIds.size() + toDelete.size());
+        } catch (SQLException e) {
+            failIfUnrecoverable(e);
+            logger.error("Erro ao ler chaves naturais: {}", e.getMessage());
+            return new SyncResult(incoming.size(), 0, 0, 0, 0, false);
+        }
+
+        List<T> toInsert = new ArrayList<>();
+        List<T> toUpdate = new ArrayList<>();
+        int unchanged = 0;
+        for (Map.Entry<String, T> entry : incoming.entrySet()) {
+            ID id = existingIds.get(entry.getKey());
+            if (id == null) {
+                toInsert.add(entry.getValue());
+            } else if (!naturalKey.contentHashOf(entry.getValue()).equals(existingHashes.get(entry.getKey()))) {
+                setId(entry.getValue(), id);
+                toUpdate.add(entry.getValue());
+            } else {
+                unchanged++;
+            }
+        }
+        if (deleteMissing) {
+            for (Map.Entry<String, ID> entry : existingIds.entrySet()) {
+                if (!incoming.containsKey(entry.getKey())) {
+                    toDelete.add(entry.getValue());
+                }
+            }
+        } else {
+            toDelete.clear();
+        }
+
+        List<ID> deletions = toDelete.stream().distinct().toList();
+        int[] inserted = new int[toInsert.size()];
+        int[] updated = new int[toUpdate.size()];
+        int[] deleted = new int[deletions.size()];
+        boolean complete = true;
+        try {
+            writeInserts(toInsert, batchSize, inserted);
+            writeUpdates(toUpdate, batchSize, updated);
+            writeDeletes(deletions, batchSize, deleted);
+        } catch (SQLException e) {
+            failIfUnrecoverable(e);
+            logger.error("Erro ao sincronizar {}: {}", getTableName(), e.getMessage());
+            complete = false;
+        }
+        return new SyncResult(incoming.size(), countAffected(inserted), countAffected(updated), countAffected(deleted),
+                unchanged, complete);
+    }
+
+    private static int countAffected(int[] affected) {
+        return (int) Arrays.stream(affected).filter(count -> count > 0 || count == Statement.SUCCESS_NO_INFO).count();
+    }
+
+    public Set<ID> findExistingIds(Collection<ID> ids, int chunkSize) {
+        Set<ID> existing = new HashSet<>();
+        List<ID> pending = ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (pending.isEmpty()) {
+            return existing;
+        }
+        try (QueryTimer timer = timer("findExistingIds", "SELECT id FROM " + getTableName() + " WHERE id IN (...)");
+             Connection conn = getConnection()) {
+            for (int from = 0; from < pending.size(); from += chunkSize) {
+                List<ID> chunk = pending.subList(from, Math.min(from + chunkSize, pending.size()));
+                String sql = "SELECT id FROM " + getTableName() + " WHERE id IN (" + placeholders(chunk.size()) + ")";
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    applyDeadline(stmt);
+                    for (int i = 0; i < chunk.size(); i++) {
+                        stmt.setObject(i + 1, chunk.get(i));
+                    }
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        Set<Object> found = new HashSet<>();
+                        while (rs.next()) {
+                            found.add(rs.getObject(1));
+                        }
+                        for (ID id : chunk) {
+                            if (found.contains(id)) {
+                                existing.add(id);
+                            }
+                        }
+                    }
+                }
+            }
+            timer.success(existing.size());
+        } catch (SQLException e) {
+            failIfUnrecoverable(e);
+            logger.error("Erro ao verificar existência em lote: {}", e.getMessage());
+        }
+        return existing;
+    }
+
+    public int insertAll(List<T> entities, int batchSize) {
+        int[] affected = new int[entities.size()];
+        try {
+            writeInserts(entities, batchSize, affected);
+        } catch (SQLException e) {
+            failIfUnrecoverable(e);
+            logger.error("Erro na inserção em lote: {}", e.getMessage());
+        }
+        return countAffected(affected);
+    }
+
+    private void writeInserts(List<T> entities, int batchSize, int[] affected) throws SQLException {
+        if (entities.isEmpty()) {
+            return;
+        }
+        try (QueryTimer timer = timer("insertAll", getInsertSql());
+             Connection conn = getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(getInsertSql(), Statement.RETURN_GENERATED_KEYS)) {
+                applyDeadline(stmt);
+                for (int from = 0; from < entities.size(); from += batchSize) {
+                    List<T> chunk = entities.subList(from, Math.min(from + batchSize, entities.size()));
+                    for (T entity : chunk) {
+                        prepareInsert(entity);
+                        setInsertParameters(stmt, entity);
+                        stmt.addBatch();
+                    }
+                    stmt.executeBatch();
+                    try (ResultSet keys = stmt.getGeneratedKeys()) {
+                        for (T entity : chunk) {
+                            if (!keys.next()) {
+                                break;
+                            }
+                            assignGeneratedKey(entity, keys);
+                        }
+                    }
+                    conn.commit();
+                    Arrays.fill(affected, from, from + chunk.size(), 1);
+                    chunk.forEach(entity -> publishSaved(entity, ChangeEvent.Operation.INSERT));
+                }
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+            timer.success(entities.size());
+        }
+    }
+
+    public BatchResult insertAllMissing(List<T> entities, int batchSize) {
+        Set<ID> existing = findExistingIds(entities.stream().map(this::getId).toList(), batchSize);
+        List<T> missing = existing.isEmpty()
+                ? entities
+                : entities.stream().filter(e -> !existing.contains(getId(e))).toList();
+        int inserted = insertAll(missing, batchSize);
+        return new BatchResult(entities.size(), inserted, entities.size() - missing.size());
+    }
+
+    public List<T> findAllById(Collection<ID> ids, int chunkSize) {
+        Map<ID, T> found = new HashMap<>();
+        List<ID> pending = new ArrayList<>();
+        for (ID id : new LinkedHashSet<>(ids)) {
+            if (id == null) {
+                continue;
+            }
+            T cached = inTransaction() ? null : entityCache.get(id);
+            if (cached != null) {
+                found.put(id, copy(cached));
+            } else {
+                pending.add(id);
+            }
+        }
+
+        if (!pending.isEmpty()) {
+            try (QueryTimer timer = timer("findAllById", "SELECT " + columnList + " FROM " + getTableName() + " WHERE id IN (...)")) {
+                List<T> loaded = read(conn -> {
+                    List<T> entities = new ArrayList<>(pending.size());
+                    for (int from = 0; from < pending.size(); from += chunkSize) {
+                        List<ID> chunk = pending.subList(from, Math.min(from + chunkSize, pending.size()));
+                        String sql = "SELECT " + columnList + " FROM " + getTableName() + " WHERE id IN (" + placeholders(chunk.size()) + ")";
+                        entities.addAll(queryList(conn, sql, chunk.toArray()));
+                    }
+                    return entities;
+                });
+                for (T entity : loaded) {
+                    found.put(getId(entity), entity);
+                    if (!inTransaction()) {
+                        entityCache.put(getId(entity), copy(entity));
+                    }
+                }
+                timer.success(loaded.size());
+            } catch (SQLException e) {
+                failIfUnrecoverable(e);
+                logger.error("Erro ao buscar em lote: {}", e.getMessage());
+            }
+        }
+
+        List<T> results = new ArrayList<>(found.size());
+        for (ID id : new LinkedHashSet<>(ids)) {
+            T entity = found.get(id);
+            if (entity != null) {
+                results.add(entity);
+            }
+        }
+        return results;
+    }
+
+    public int[] updateAll(List<T> entities, int batchSize) {
+        int[] affected = new int[entities.size()];
+        Arrays.fill(affected, Statement.EXECUTE_FAILED);
+        try {
+            writeUpdates(entities, batchSize, affected);
+        } catch (SQLException e) {
+            failIfUnrecoverable(e);
+            logger.error("Erro na atualização em lote: {}", e.getMessage());
+        }
+        return affected;
+    }
+
+    void writeUpdates(List<T> entities, int batchSize, int[] affected) throws SQLException {
+        if (entities.isEmpty()) {
+            return;
+        }
+        try (QueryTimer timer = timer("updateAll", getUpdateSql());
+             Connection conn = getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(getUpdateSql())) {
+                applyDeadline(stmt);
+                for (int from = 0; from < entities.size(); from += batchSize) {
+                    List<T> chunk = entities.subList(from, Math.min(from + batchSize, entities.size()));
+                    for (T entity : chunk) {
+                        prepareUpdate(entity);
+                        setUpdateParameters(stmt, entity);
+                        stmt.addBatch();
+                    }
+                    int[] counts = stmt.executeBatch();
+                    conn.commit();
+                    System.arraycopy(counts, 0, affected, from, Math.min(counts.length, chunk.size()));
+                    for (int i = 0; i < chunk.size(); i++) {
+                        if (affected[from + i] != 0) {
+                            advanceVersion(chunk.get(i));
+                            publishSaved(chunk.get(i), ChangeEvent.Operation.UPDATE);
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+            timer.success(entities.size());
+        }
+    }
+
+    public UpdateOutcome updateIfUnchanged(T entity, Long expectedVersion) {
+        ID id = getId(entity);
+        if (id == null) {
+            throw new IllegalArgumentException("ID é obrigatório para atualização condicional");
+        }
+        String sql = expectedVersion != null ? getUpdateSql().strip() + " AND version = ?" : getUpdateSql();
+        try (QueryTimer timer = timer("updateIfUnchanged", sql);
+             Connection conn = getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            applyDeadline(stmt);
+            prepareUpdate(entity);
+            int parameters = setUpdateParameters(stmt, entity);
+            if (expectedVersion != null) {
+                stmt.setLong(parameters + 1, expectedVersion);
+            }
+            int updated = stmt.executeUpdate();
+            timer.success(updated);
+            if (updated > 0) {
+                setVersion(entity, expectedVersion != null ? expectedVersion + 1 : null);
+                publishSaved(entity, ChangeEvent.Operation.UPDATE);
+                return UpdateOutcome.UPDATED;
+            }
+            if (expectedVersion == null) {
+                return UpdateOutcome.NOT_FOUND;
+            }
+            try (PreparedStatement exists = conn.prepareStatement("SELECT 1 FROM " + getTableName() + " WHERE id = ?")) {
+                applyDeadline(exists);
+                exists.setObject(1, id);
+                try (ResultSet rs = exists.executeQuery()) {
+                    return rs.next() ? UpdateOutcome.CONFLICT : UpdateOutcome.NOT_FOUND;
+                }
+            }
+        } catch (SQLException e) {
+            failIfUnrecoverable(e);
+            logger.error("Erro na atualização condicional: {}", e.getMessage());
+        }
+        return UpdateOutcome.FAILED;
+    }
+
+    public Set<ID> deleteAllById(Collection<ID> ids, int chunkSize) {
+        List<ID> requested = new ArrayList<>(ids);
+        int[] affected = deleteAll(requested, chunkSize);
+        Set<ID> deleted = new HashSet<>();
+        for (int i = 0; i < requested.size(); i++) {
+            if (affected[i] > 0) {
+                deleted.add(requested.get(i));
+            }
+        }
+        return deleted;
+    }
+
+    public int[] deleteAll(List<ID> ids, int chunkSize) {
+        List<ID> pending = ids.stream().filter(Objects::nonNull).distinct().toList();
+        int[] affected = new int[pending.size()];
+        Arrays.fill(affected, Statement.EXECUTE_FAILED);
+        try {
+            writeDeletes(pending, chunkSize, affected);
+        } catch (SQLException e) {
+            failIfUnrecoverable(e);
+            logger.error("Erro ao deletar em lote: {}", e.getMessage());
+        }
+        Map<ID, Integer> byId = new HashMap<>();
+        for (int i = 0; i < pending.size(); i++) {
+            byId.put(pending.get(i), affected[i]);
+        }
+        int[] result = new int[ids.size()];
+        for (int i = 0; i < ids.size(); i++) {
+            result[i] = ids.get(i) != null ? byId.get(ids.get(i)) : 0;
+        }
+        return result;
+    }
+
+    private void writeDeletes(List<ID> ids, int chunkSize, int[] affected) throws SQLException {
+        if (ids.isEmpty()) {
+            return;
+        }
+        try (QueryTimer timer = timer("deleteAllById", "DELETE FROM " + getTableName() + " WHERE id IN (...)");
+             Connection conn = getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            int deleted = 0;
+            try {
+                for (int from = 0; from < ids.size(); from += chunkSize) {
+                    List<ID> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+                    String in = " WHERE id IN (" + placeholders(chunk.size()) + ")";
+                    Set<Object> existing = new HashSet<>();
+                    try (PreparedStatement stmt = conn.prepareStatement("SELECT id FROM " + getTableName() + in + " FOR UPDATE")) {
+                        applyDeadline(stmt);
+                        for (int i = 0; i < chunk.size(); i++) {
+                            stmt.setObject(i + 1, chunk.get(i));
+                        }
+                        try (ResultSet rs = stmt.executeQuery()) {
+                            while (rs.next()) {
+                                existing.add(rs.getObject(1));
+                            }
+                        }
+                    }
+                    try (PreparedStatement stmt = conn.prepareStatement("DELETE FROM " + getTableName() + in)) {
+                        applyDeadline(stmt);
+                        for (int i = 0; i < chunk.size(); i++) {
+                            stmt.setObject(i + 1, chunk.get(i));
+                        }
+                        stmt.executeUpdate();
+                    }
+                    conn.commit();
+                    for (int i = 0; i < chunk.size(); i++) {
+                        ID id = chunk.get(i);
+                        affected[from + i] = existing.contains(id) ? 1 : 0;
+                        if (existing.contains(id)) {
+                            deleted++;
+                            publishDeleted(id);
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+            timer.success(deleted);
+        }
+    }
+
+    protected RowMapper<T> rowMapper(ResultSet rs) throws SQLException {
+        return createRowMapper(ColumnIndex.of(rs.getMetaData()));
+    }
+
+    protected String projection(Collection<String> columns) {
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        for (String column : columns) {
+            if (!getColumns().contains(column)) {
+                throw new IllegalArgumentException("Coluna desconhecida em " + getTableName() + ": " + column);
+            }
+            selected.add(column);
+        }
+        return String.join(", ", selected);
+    }
+
+    protected static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    protected QueryTimer timer(String operation, String sql) {
+        return queryMetrics.start(getTableName() + "." + operation, sql);
+    }
+
+    protected <R> R read(SqlFunction<R> work) throws SQLException {
+        ReplicaRouter router = replicaRouterForReads();
+        ReadReplica replica = router != null ? router.choose(null) : null;
+        if (replica != null) {
+            try {
+                return router.isHedgingEnabled()
+                        ? ReplicaReads.hedged(router, replica, work)
+                        : ReplicaReads.attempt(replica, work);
+            } catch (SQLException e) {
+                if (!ReplicaReads.shouldFallBack(e)) {
+                    throw e;
+                }
+                logger.warn("Leitura na réplica {} falhou, usando o primário: {}", replica.getName(), e.getMessage());
+            }
+        }
+        try (Connection conn = getConnection()) {
+            return work.apply(conn);
+        }
+    }
+
+    protected Connection getReadConnection() throws SQLException {
+        ReplicaRouter router = replicaRouterForReads();
+        ReadReplica replica = router != null ? router.choose(null) : null;
+        if (replica != null) {
+            try {
+                Optional<Deadline> deadline = Deadline.current();
+                deadline.ifPresent(Deadline::check);
+                return replica.getConnection(deadline.map(Deadline::remainingMillis).orElse(Long.MAX_VALUE));
+            } catch (SQLException e) {
+                if (!ReplicaReads.shouldFallBack(e)) {
+                    throw e;
+                }
+                if (ReplicaReads.isConnectionFailure(e)) {
+                    replica.markDown(e.getMessage());
+                }
+                logger.warn("Conexão com a réplica {} falhou, usando o primário: {}", replica.getName(), e.getMessage());
+            }
+        }
+        return getConnection();
+    }
+
+    private ReplicaRouter replicaRouterForReads() {
+        ReplicaRouter router = databaseManager.getReplicaRouter();
+        if (router == null || inTransaction() || System.nanoTime() - lastWriteNanos < router.getReadAfterWriteNanos()) {
+            return null;
+        }
+        return router;
+    }
+
+    protected void markWrite() {
+        lastWriteNanos = System.nanoTime();
+    }
+
+    protected Connection getConnection() throws SQLException {
+        Optional<Deadline> deadline = Deadline.current();
+        if (deadline.isEmpty()) {
+            return databaseManager.getConnection();
+        }
+        deadline.get().check();
+        return databaseManager.getConnection(deadline.get().remainingMillis());
+    }
+
+    protected void applyDeadline(Statement stmt) throws SQLException {
+        Optional<Deadline> deadline = Deadline.current();
+        if (deadline.isPresent()) {
+            deadline.get().check();
+            long remainingMillis = deadline.get().remainingMillis();
+            stmt.setQueryTimeout((int) Math.max(1, (remainingMillis + 999) / 1000));
+        }
+    }
+
+    protected void failIfUnrecoverable(SQLException e) {
+        Optional<Deadline> deadline = Deadline.current();
+        if (deadline.isPresent() && (e instanceof SQLTimeoutException || e instanceof SQLTransientConnectionException
+                || deadline.get().isExpired())) {
+            throw new DeadlineExceededException("Prazo esgotado em " + getTableName() + ": " + e.getMessage(), e);
+        }
+        if (inTransaction()) {
+            throw new TransactionException("Erro em " + getTableName() + " durante a transação: " + e.getMessage(), e);
+        }
+    }
+
+    public List<CacheStats> getCacheStats() {
+        return List.of(entityCache.stats(), queryCache.stats());
+    }
+
+    protected List<T> cachedQuery(String key, String sql, Object... params) {
+        if (inTransaction()) {
+            return List.copyOf(executeQuery(sql, params));
+        }
+        List<T> results = queryCache.getOrLoad(key, () -> {
+            List<T> loaded = tryQuery(sql, params);
+            return loaded != null ? List.copyOf(loaded) : null;
+        });
+        return results != null ? results.stream().map(this::copy).toList() : List.of();
+    }
+
+    protected boolean inTransaction() {
+        return Transaction.current().isPresent();
+    }
+
+    protected void publishSaved(T entity, ChangeEvent.Operation operation) {
+        T saved = copy(entity);
+        Runnable publish = () -> {
+            onSaved(saved);
+            changeEvents.publish(operation, getTableName(), getId(saved), saved);
+        };
+        Optional<Transaction> transaction = Transaction.current();
+        if (transaction.isPresent()) {
+            transaction.get().afterCommit(publish);
+        } else {
+            publish.run();
+        }
+    }
+
+    protected void publishDeleted(ID id) {
+        Runnable publish = () -> {
+            onDeleted(id);
+            changeEvents.publish(ChangeEvent.Operation.DELETE, getTableName(), id, null);
+        };
+        Optional<Transaction> transaction = Transaction.current();
+        if (transaction.isPresent()) {
+            transaction.get().afterCommit(publish);
+        } else {
+            publish.run();
+        }
+    }
+
+    protected void advanceVersion(T entity) {
+        Long version = getVersion(entity);
+        setVersion(entity, version != null ? version + 1 : null);
+    }
+
+    private void applyUpsertVersion(T entity, int affected) {
+        if (affected == 1) {
+            setVersion(entity, 0L);
+        } else {
+            advanceVersion(entity);
+        }
+    }
+
+    private static ChangeEvent.Operation upsertOperation(int affected) {
+        return affected == 1 ? ChangeEvent.Operation.INSERT : ChangeEvent.Operation.UPDATE;
+    }
+
+    protected void onSaved(T entity) {
+        markWrite();
+        entityCache.invalidate(getId(entity));
+        queryCache.invalidateAll();
+    }
+
+    protected void onDeleted(ID id) {
+        markWrite();
+        entityCache.invalidate(id);
+        queryCache.invalidateAll();
+    }
+
+    private Runnable closer(AutoCloseable... resources) {
+        boolean[] closed = {false};
+        return () -> {
+            if (!closed[0]) {
+                closed[0] = true;
+                closeQuietly(resources);
+            }
+        };
+    }
+
+    private void closeQuietly(AutoCloseable... resources) {
+        for (AutoCloseable resource : resources) {
+            if (resource == null) {
+                continue;
+            }
+            try {
+                resource.close();
+            } catch (Exception e) {
+                logger.debug("Erro ao fechar recurso: {}", e.getMessage());
+            }
+        }
+    }
+
+    protected static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
 }
@@ -0,0 +1,8 @@
+package me.pieralini.educationbase.repository;
+
+public record BatchResult(int total, int inserted, int skipped) {
+
+    public boolean complete() {
+        return inserted + skipped == total;
+    }
+}
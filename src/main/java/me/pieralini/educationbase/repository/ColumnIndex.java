@@ -0,0 +1,28 @@
+package me.pieralini.educationbase.repository;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+public final class ColumnIndex {
+
+    private final Map<String, Integer> indexes;
+
+    private ColumnIndex(Map<String, Integer> indexes) {
+        this.indexes = indexes;
+    }
+
+    public static ColumnIndex of(ResultSetMetaData metaData) throws SQLException {
+        int count = metaData.getColumnCount();
+        Map<String, Integer> indexes = new HashMap<>(count * 2);
+        for (int i = 1; i <= count; i++) {
+            indexes.putIfAbsent(metaData.getColumnLabel(i).toLowerCase(), i);
+        }
+        return new ColumnIndex(indexes);
+    }
+
+    public int indexOf(String column) {
+        return indexes.getOrDefault(column, 0);
+    }
+}
@@ -0,0 +1,57 @@
+package me.pieralini.educationbase.repository;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+final class ColumnarOverlay<ID, S> {
+
+    static final int MAX_STALE_ROWS = 1024;
+
+    private final AtomicLong version = new AtomicLong();
+    private final Map<ID, Long> stale = new ConcurrentHashMap<>();
+    private volatile S snapshot;
+    private long installedVersion;
+
+    S snapshot() {
+        return snapshot;
+    }
+
+    long version() {
+        return version.get();
+    }
+
+    synchronized boolean install(S snapshot, long builtAt) {
+        if (builtAt < installedVersion) {
+            return false;
+        }
+        installedVersion = builtAt;
+        this.snapshot = snapshot;
+        stale.values().removeIf(mark -> mark <= builtAt);
+        if (stale.size() > MAX_STALE_ROWS) {
+            this.snapshot = null;
+        }
+        return this.snapshot != null || snapshot == null;
+    }
+
+    void markStale(ID id) {
+        long mark = version.incrementAndGet();
+        stale.merge(id, mark, Math::max);
+        if (stale.size() > MAX_STALE_ROWS) {
+            snapshot = null;
+        }
+    }
+
+    boolean isStale(ID id) {
+        return stale.containsKey(id);
+    }
+
+    boolean hasStaleRows() {
+        return !stale.isEmpty();
+    }
+
+    Set<ID> staleIds() {
+        return Set.copyOf(stale.keySet());
+    }
+}
@@ -1,17 +1,37 @@
 package me.pieralini.educationbase.repository;
 
+import me.pieralini.educationbase.events.ChangeEvent;
+import me.pieralini.educationbase.metrics.QueryTimer;
 import me.pieralini.educationbase.model.Curso;
+import me.pieralini.educationbase.search.SearchIndex;
+import me.pieralini.educationbase.snapshot.ColumnarCursos;
 
 import java.sql.*;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public class CursoRepository extends BaseRepository<Curso, Integer> {
 
+    public static final List<String> COLUMNS = List.of("id", "nome", "descricao", "plataforma", "created_at", "updated_at", "version");
+    public static final List<String> RESUMO = List.of("nome", "plataforma");
+
+    private static final NaturalKey<Curso> NATURAL_KEY = new NaturalKey<>(
+            List.of("nome", "plataforma"), curso -> Arrays.asList(curso.getNome(), curso.getPlataforma()),
+            List.of("nome", "descricao", "plataforma"),
+            curso -> Arrays.asList(curso.getNome(), curso.getDescricao(), curso.getPlataforma()));
+
     private static CursoRepository instance;
+    private final SearchIndex<Curso> searchIndex = new SearchIndex<>(Curso::getId, Curso::getNome);
+    private final ColumnarOverlay<Integer, ColumnarCursos> columnar = new ColumnarOverlay<>();
+    private final GroupCounter<Integer, String> plataformas = new GroupCounter<>();
 
     private CursoRepository() {
-        super();
+        super("cursos", COLUMNS);
     }
 
     public static synchronized CursoRepository getInstance() {
@@ -22,20 +42,22 @@ public class CursoRepository extends BaseRepository<Curso, Integer> {
     }
 
     @Override
-    protected String getTableName() {
-        return "cursos";
-    }
-
-    @Override
-    protected Curso mapResultSet(ResultSet rs) throws SQLException {
-        return Curso.builder()
-                .id(rs.getInt("id"))
-                .nome(rs.getString("nome"))
-                .descricao(rs.getString("descricao"))
-                .plataforma(rs.getString("plataforma"))
-                .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
-                .updatedAt(rs.getTimestamp("updated_at").toLocalDateTime())
-                .build();
+    protected RowMapper<Curso> createRowMapper(ColumnIndex columns) {
+        int id = columns.indexOf("id");
+        int nome = columns.indexOf("nome");
+        int descricao = columns.indexOf("descricao");
+        int plataforma = columns.indexOf("plataforma");
+        int createdAt = columns.indexOf("created_at");
+        int updatedAt = columns.indexOf("updated_at");
+        int version = columns.indexOf("version");
+        return rs -> new Curso(
+                rs.getInt(id),
+                nome > 0 ? rs.getString(nome) : null,
+                descricao > 0 ? rs.getString(descricao) : null,
+                plataforma > 0 ? rs.getString(plataforma) : null,
+                createdAt > 0 ? toLocalDateTime(rs.getTimestamp(createdAt)) : null,
+                updatedAt > 0 ? toLocalDateTime(rs.getTimestamp(updatedAt)) : null,
+                version > 0 ? rs.getLong(version) : null);
     }
 
     @Override
@@ -48,12 +70,13 @@ public class CursoRepository extends BaseRepository<Curso, Integer> {
     }
 
     @Override
-    protected void setUpdateParameters(PreparedStatement stmt, Curso curso) throws SQLException {
+    protected int setUpdateParameters(PreparedStatement stmt, Curso curso) throws SQLException {
         stmt.setString(1, curso.getNome());
         stmt.setString(2, curso.getDescricao());
         stmt.setString(3, curso.getPlataforma());
-        stmt.setTimestamp(4, Timestamp.valueOf(LocalDateTime.now()));
+        stmt.setTimestamp(4, Timestamp.valueOf(curso.getUpdatedAt()));
         stmt.setInt(5, curso.getId());
+        return 5;
     }
 
     @Override
@@ -61,52 +84,233 @@ public class CursoRepository extends BaseRepository<Curso, Integer> {
         return entity.getId();
     }
 
-    public Curso save(Curso curso) {
-        if (curso.getId() != null && existsById(curso.getId())) {
+    @Override
+    protected void setId(Curso entity, Integer id) {
+        entity.setId(id);
+    }
+
+    @Override
+    protected Long getVersion(Curso entity) {
+        return entity.getVersion();
+    }
+
+    @Override
+    protected void setVersion(Curso entity, Long version) {
+        entity.setVersion(version);
+    }
+
+    @Override
+    protected Curso copy(Curso curso) {
+        return curso.toBuilder().build();
+    }
+
+    @Override
+    protected NaturalKey<Curso> getNaturalKey() {
+        return NATURAL_KEY;
+    }
+
+    @Override
+    protected String getInsertSql() {
+        return "INSERT INTO cursos (nome, descricao, plataforma, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+    }
+
+    @Override
+    protected String getUpdateSql() {
+        return "UPDATE cursos SET nome=?, descricao=?, plataforma=?, updated_at=?, version=version + 1 WHERE id=?";
+    }
+
+    @Override
+    protected String getUpsertSql() {
+        return """
+            INSERT INTO cursos (nome, descricao, plataforma, created_at, updated_at, id) VALUES (?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE nome=VALUES(nome), descricao=VALUES(descricao), plataforma=VALUES(plataforma),
+                updated_at=VALUES(updated_at), version=version + 1, id=LAST_INSERT_ID(id)
+            """;
+    }
+
+    @Override
+    protected void setUpsertParameters(PreparedStatement stmt, Curso curso) throws SQLException {
+        setInsertParameters(stmt, curso);
+        stmt.setObject(6, curso.getId());
+    }
+
+    @Override
+    protected void prepareInsert(Curso curso) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        curso.setCreatedAt(now);
+        curso.setUpdatedAt(now);
+        curso.setVersion(0L);
+    }
+
+    @Override
+    protected void prepareUpdate(Curso curso) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        if (curso.getCreatedAt() == null) {
+            curso.setCreatedAt(now);
+        }
+        curso.setUpdatedAt(now);
+    }
+
+    @Override
+    protected void assignGeneratedKey(Curso curso, ResultSet keys) throws SQLException {
+        curso.setId(keys.getInt(1));
+    }
+
+    public Optional<Curso> save(Curso curso) {
+        if (upsertEnabled) {
+            return upsert(curso);
+        }
+        if (curso.getId() != null && existsOnPrimary(curso.getId())) {
             return update(curso);
         }
         return insert(curso);
     }
 
-    private Curso insert(Curso curso) {
-        String sql = "INSERT INTO cursos (nome, descricao, plataforma, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
-        try (Connection conn = databaseManager.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            curso.setCreatedAt(LocalDateTime.now());
-            curso.setUpdatedAt(LocalDateTime.now());
+    private Optional<Curso> insert(Curso curso) {
+        try (QueryTimer timer = timer("insert", getInsertSql());
+             Connection conn = getConnection();
+             PreparedStatement stmt = conn.prepareStatement(getInsertSql(), Statement.RETURN_GENERATED_KEYS)) {
+            applyDeadline(stmt);
+            prepareInsert(curso);
             setInsertParameters(stmt, curso);
-            stmt.executeUpdate();
+            timer.success(stmt.executeUpdate());
             
             try (ResultSet rs = stmt.getGeneratedKeys()) {
                 if (rs.next()) {
-                    curso.setId(rs.getInt(1));
+                    assignGeneratedKey(curso, rs);
                 }
             }
+            publishSaved(curso, ChangeEvent.Operation.INSERT);
             logger.info("Curso inserido: {}", curso.getId());
+            return Optional.of(curso);
         } catch (SQLException e) {
+            failIfUnrecoverable(e);
             logger.error("Erro ao inserir curso: {}", e.getMessage());
         }
-        return curso;
+        return Optional.empty();
     }
 
-    private Curso update(Curso curso) {
-        String sql = "UPDATE cursos SET nome=?, descricao=?, plataforma=?, updated_at=? WHERE id=?";
-        try (Connection conn = databaseManager.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+    private Optional<Curso> update(Curso curso) {
+        try (QueryTimer timer = timer("update", getUpdateSql());
+             Connection conn = getConnection();
+             PreparedStatement stmt = conn.prepareStatement(getUpdateSql())) {
+            applyDeadline(stmt);
+            prepareUpdate(curso);
             setUpdateParameters(stmt, curso);
-            stmt.executeUpdate();
+            int affected = stmt.executeUpdate();
+            timer.success(affected);
+            if (affected == 0) {
+                return Optional.empty();
+            }
+            advanceVersion(curso);
+            publishSaved(curso, ChangeEvent.Operation.UPDATE);
             logger.info("Curso atualizado: {}", curso.getId());
+            return Optional.of(curso);
         } catch (SQLException e) {
+            failIfUnrecoverable(e);
             logger.error("Erro ao atualizar curso: {}", e.getMessage());
         }
-        return curso;
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Curso> findById(Integer id) {
+        ColumnarCursos snapshot = columnar.snapshot();
+        if (snapshot != null && id != null && !inTransaction() && !columnar.isStale(id)) {
+            return snapshot.findById(id);
+        }
+        return super.findById(id);
+    }
+
+    @Override
+    public List<Curso> findAll() {
+        ColumnarCursos snapshot = columnar.snapshot();
+        if (snapshot != null && !inTransaction()) {
+            return withStaleRows(snapshot.findAll(), columnar, Comparator.comparing(Curso::getId));
+        }
+        return super.findAll();
     }
 
     public List<Curso> findByPlataforma(String plataforma) {
-        return executeQuery("SELECT * FROM cursos WHERE plataforma = ?", plataforma);
+        ColumnarCursos snapshot = columnar.snapshot();
+        if (snapshot != null && !inTransaction() && !columnar.hasStaleRows()) {
+            return snapshot.findByPlataforma(plataforma);
+        }
+        return cachedQuery("plataforma:" + plataforma,
+                "SELECT " + columnList + " FROM cursos WHERE plataforma = ?", plataforma);
+    }
+
+    public Map<String, Long> countByPlataforma() {
+        if (useSummary(plataformas, this::buildSummary)) {
+            return plataformas.counts();
+        }
+        return countGroupedBy("plataforma", rs -> rs.getString(1));
     }
 
     public List<Curso> searchByNome(String termo) {
-        return executeQuery("SELECT * FROM cursos WHERE nome LIKE ?", "%" + termo + "%");
+        return searchByNome(termo, Integer.MAX_VALUE);
+    }
+
+    public List<Curso> searchByNome(String termo, int limite) {
+        if (searchIndex.isReady()) {
+            return searchIndex.search(termo, limite).stream().map(this::copy).toList();
+        }
+        return executeQuery("SELECT " + columnList + " FROM cursos WHERE nome LIKE ? LIMIT ?", "%" + termo + "%", limite);
+    }
+
+    public void buildSearchIndex() {
+        if (rebuildSearchIndex(searchIndex)) {
+            logger.info("Índice de busca de cursos construído: {} registros", searchIndex.size());
+        }
+    }
+
+    public void buildSummary() {
+        if (rebuildGroupCounter(plataformas, List.of("plataforma"), rs -> rs.getString(2))) {
+            logger.info("Resumo estatístico de cursos construído: {} registros", plataformas.total());
+        }
+    }
+
+    public boolean buildColumnar() {
+        long version = columnar.version();
+        try {
+            ColumnarCursos snapshot = ColumnarCursos.build(loadAllOrderedById());
+            boolean installed = useColumnar(snapshot, version);
+            if (installed) {
+                logger.info("Snapshot colunar de cursos construído: {} registros", snapshot.size());
+            }
+            return installed;
+        } catch (SQLException e) {
+            failIfUnrecoverable(e);
+            logger.error("Erro ao construir snapshot colunar de cursos: {}", e.getMessage());
+        }
+        return false;
+    }
+
+    public boolean useColumnar(ColumnarCursos snapshot, long version) {
+        return columnar.install(snapshot, version);
+    }
+
+    public long getColumnarVersion() {
+        return columnar.version();
+    }
+
+    public ColumnarCursos getColumnar() {
+        return columnar.snapshot();
+    }
+
+    @Override
+    protected void onSaved(Curso entity) {
+        super.onSaved(entity);
+        columnar.markStale(entity.getId());
+        plataformas.put(entity.getId(), entity.getPlataforma());
+        searchIndex.put(copy(entity));
+    }
+
+    @Override
+    protected void onDeleted(Integer id) {
+        super.onDeleted(id);
+        columnar.markStale(id);
+        plataformas.remove(id);
+        searchIndex.remove(id);
     }
 }
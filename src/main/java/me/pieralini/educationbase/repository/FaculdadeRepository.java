@@ -1,18 +1,40 @@
 package me.pieralini.educationbase.repository;
 
+import me.pieralini.educationbase.events.ChangeEvent;
+import me.pieralini.educationbase.metrics.QueryTimer;
 import me.pieralini.educationbase.model.Faculdade;
+import me.pieralini.educationbase.search.SearchIndex;
+import me.pieralini.educationbase.snapshot.ColumnarFaculdades;
 import me.pieralini.educationbase.model.Faculdade.*;
 
 import java.sql.*;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public class FaculdadeRepository extends BaseRepository<Faculdade, Integer> {
 
+    public static final List<String> COLUMNS = List.of("id", "nome_curso", "tipo_graduacao", "duracao_semestres", "created_at", "updated_at", "version");
+    public static final List<String> RESUMO = List.of("nome_curso", "tipo_graduacao");
+
+    private static final NaturalKey<Faculdade> NATURAL_KEY = new NaturalKey<>(
+            List.of("nome_curso", "tipo_graduacao"), f -> Arrays.asList(f.getNomeCurso(), f.getTipoGraduacao()),
+            List.of("nome_curso", "tipo_graduacao", "duracao_semestres"),
+            f -> Arrays.asList(f.getNomeCurso(), f.getTipoGraduacao(), f.getDuracaoSemestres()));
+
     private static FaculdadeRepository instance;
+    private final SearchIndex<Faculdade> searchIndex = new SearchIndex<>(Faculdade::getId, Faculdade::getNomeCurso);
+    private final ColumnarOverlay<Integer, ColumnarFaculdades> columnar = new ColumnarOverlay<>();
+    private final GroupCounter<Integer, Grupo> grupos = new GroupCounter<>();
 
     private FaculdadeRepository() {
-        super();
+        super("faculdades", COLUMNS);
     }
 
     public static synchronized FaculdadeRepository getInstance() {
@@ -23,20 +45,22 @@ public class FaculdadeRepository extends BaseRepository<Faculdade, Integer> {
     }
 
     @Override
-    protected String getTableName() {
-        return "faculdades";
-    }
-
-    @Override
-    protected Faculdade mapResultSet(ResultSet rs) throws SQLException {
-        return Faculdade.builder()
-                .id(rs.getInt("id"))
-                .nomeCurso(rs.getString("nome_curso"))
-                .tipoGraduacao(TipoGraduacao.valueOf(rs.getString("tipo_graduacao")))
-                .duracaoSemestres(rs.getObject("duracao_semestres", Integer.class))
-                .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
-                .updatedAt(rs.getTimestamp("updated_at").toLocalDateTime())
-                .build();
+    protected RowMapper<Faculdade> createRowMapper(ColumnIndex columns) {
+        int id = columns.indexOf("id");
+        int nomeCurso = columns.indexOf("nome_curso");
+        int tipoGraduacao = columns.indexOf("tipo_graduacao");
+        int duracaoSemestres = columns.indexOf("duracao_semestres");
+        int createdAt = columns.indexOf("created_at");
+        int updatedAt = columns.indexOf("updated_at");
+        int version = columns.indexOf("version");
+        return rs -> new Faculdade(
+                rs.getInt(id),
+                nomeCurso > 0 ? rs.getString(nomeCurso) : null,
+                tipoGraduacao > 0 ? TipoGraduacao.valueOf(rs.getString(tipoGraduacao)) : null,
+                duracaoSemestres > 0 ? rs.getObject(duracaoSemestres, Integer.class) : null,
+                createdAt > 0 ? toLocalDateTime(rs.getTimestamp(createdAt)) : null,
+                updatedAt > 0 ? toLocalDateTime(rs.getTimestamp(updatedAt)) : null,
+                version > 0 ? rs.getLong(version) : null);
     }
 
     @Override
@@ -49,12 +73,13 @@ public class FaculdadeRepository extends BaseRepository<Faculdade, Integer> {
     }
 
     @Override
-    protected void setUpdateParameters(PreparedStatement stmt, Faculdade f) throws SQLException {
+    protected int setUpdateParameters(PreparedStatement stmt, Faculdade f) throws SQLException {
         stmt.setString(1, f.getNomeCurso());
         stmt.setString(2, f.getTipoGraduacao().name());
         stmt.setObject(3, f.getDuracaoSemestres());
-        stmt.setTimestamp(4, Timestamp.valueOf(LocalDateTime.now()));
+        stmt.setTimestamp(4, Timestamp.valueOf(f.getUpdatedAt()));
         stmt.setInt(5, f.getId());
+        return 5;
     }
 
     @Override
@@ -62,54 +87,193 @@ public class FaculdadeRepository extends BaseRepository<Faculdade, Integer> {
         return entity.getId();
     }
 
-    public Faculdade save(Faculdade faculdade) {
-        if (faculdade.getId() != null && existsById(faculdade.getId())) {
-            return update(faculdade);
-        }
-        return insert(faculdade);
+    @Override
+    protected void setId(Faculdade entity, Integer id) {
+        entity.setId(id);
+    }
+
+    @Override
+    protected Long getVersion(Faculdade entity) {
+        return entity.getVersion();
     }
 
-    private Faculdade insert(Faculdade f) {
-        String sql = """
+    @Override
+    protected void setVersion(Faculdade entity, Long version) {
+        entity.setVersion(version);
+    }
+
+    @Override
+    protected Faculdade copy(Faculdade faculdade) {
+        return faculdade.toBuilder().build();
+    }
+
+    @Override
+    protected NaturalKey<Faculdade> getNaturalKey() {
+        return NATURAL_KEY;
+    }
+
+    @Override
+    protected String getInsertSql() {
+        return """
             INSERT INTO faculdades (nome_curso, tipo_graduacao, duracao_semestres, created_at, updated_at) 
             VALUES (?, ?, ?, ?, ?)
             """;
-        try (Connection conn = databaseManager.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            f.setCreatedAt(LocalDateTime.now());
-            f.setUpdatedAt(LocalDateTime.now());
+    }
+
+    @Override
+    protected String getUpdateSql() {
+        return """
+            UPDATE faculdades SET nome_curso=?, tipo_graduacao=?, duracao_semestres=?,
+                updated_at=?, version=version + 1 WHERE id=?
+            """;
+    }
+
+    @Override
+    protected String getUpsertSql() {
+        return """
+            INSERT INTO faculdades (nome_curso, tipo_graduacao, duracao_semestres, created_at, updated_at, id)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE nome_curso=VALUES(nome_curso), tipo_graduacao=VALUES(tipo_graduacao),
+                duracao_semestres=VALUES(duracao_semestres), updated_at=VALUES(updated_at),
+                version=version + 1, id=LAST_INSERT_ID(id)
+            """;
+    }
+
+    @Override
+    protected void setUpsertParameters(PreparedStatement stmt, Faculdade f) throws SQLException {
+        setInsertParameters(stmt, f);
+        stmt.setObject(6, f.getId());
+    }
+
+    @Override
+    protected void prepareInsert(Faculdade f) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        f.setCreatedAt(now);
+        f.setUpdatedAt(now);
+        f.setVersion(0L);
+    }
+
+    @Override
+    protected void prepareUpdate(Faculdade f) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        if (f.getCreatedAt() == null) {
+            f.setCreatedAt(now);
+        }
+        f.setUpdatedAt(now);
+    }
+
+    @Override
+    protected void assignGeneratedKey(Faculdade f, ResultSet keys) throws SQLException {
+        f.setId(keys.getInt(1));
+    }
+
+    public Optional<Faculdade> save(Faculdade faculdade) {
+        if (upsertEnabled) {
+            return upsert(faculdade);
+        }
+        if (faculdade.getId() != null && existsOnPrimary(faculdade.getId())) {
+            return update(faculdade);
+        }
+        return insert(faculdade);
+    }
+
+    private Optional<Faculdade> insert(Faculdade f) {
+        try (QueryTimer timer = timer("insert", getInsertSql());
+             Connection conn = getConnection();
+             PreparedStatement stmt = conn.prepareStatement(getInsertSql(), Statement.RETURN_GENERATED_KEYS)) {
+            applyDeadline(stmt);
+            prepareInsert(f);
             setInsertParameters(stmt, f);
-            stmt.executeUpdate();
+            timer.success(stmt.executeUpdate());
             
             try (ResultSet rs = stmt.getGeneratedKeys()) {
                 if (rs.next()) {
-                    f.setId(rs.getInt(1));
+                    assignGeneratedKey(f, rs);
                 }
             }
+            publishSaved(f, ChangeEvent.Operation.INSERT);
             logger.info("Faculdade inserida: {}", f.getId());
+            return Optional.of(f);
         } catch (SQLException e) {
+            failIfUnrecoverable(e);
             logger.error("Erro ao inserir faculdade: {}", e.getMessage());
         }
-        return f;
+        return Optional.empty();
     }
 
-    private Faculdade update(Faculdade f) {
-        String sql = """
-            UPDATE faculdades SET nome_curso=?, tipo_graduacao=?, duracao_semestres=?, updated_at=? WHERE id=?
-            """;
-        try (Connection conn = databaseManager.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+    private Optional<Faculdade> update(Faculdade f) {
+        try (QueryTimer timer = timer("update", getUpdateSql());
+             Connection conn = getConnection();
+             PreparedStatement stmt = conn.prepareStatement(getUpdateSql())) {
+            applyDeadline(stmt);
+            prepareUpdate(f);
             setUpdateParameters(stmt, f);
-            stmt.executeUpdate();
+            int affected = stmt.executeUpdate();
+            timer.success(affected);
+            if (affected == 0) {
+                return Optional.empty();
+            }
+            advanceVersion(f);
+            publishSaved(f, ChangeEvent.Operation.UPDATE);
             logger.info("Faculdade atualizada: {}", f.getId());
+            return Optional.of(f);
         } catch (SQLException e) {
+            failIfUnrecoverable(e);
             logger.error("Erro ao atualizar faculdade: {}", e.getMessage());
         }
-        return f;
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Faculdade> findById(Integer id) {
+        ColumnarFaculdades snapshot = columnar.snapshot();
+        if (snapshot != null && id != null && !inTransaction() && !columnar.isStale(id)) {
+            return snapshot.findById(id);
+        }
+        return super.findById(id);
+    }
+
+    @Override
+    public List<Faculdade> findAll() {
+        ColumnarFaculdades snapshot = columnar.snapshot();
+        if (snapshot != null && !inTransaction()) {
+            return withStaleRows(snapshot.findAll(), columnar, Comparator.comparing(Faculdade::getId));
+        }
+        return super.findAll();
     }
 
     public List<Faculdade> findByTipoGraduacao(TipoGraduacao tipo) {
-        return executeQuery("SELECT * FROM faculdades WHERE tipo_graduacao = ?", tipo.name());
+        ColumnarFaculdades snapshot = columnar.snapshot();
+        if (snapshot != null && !inTransaction() && !columnar.hasStaleRows()) {
+            return snapshot.findByTipoGraduacao(tipo);
+        }
+        return cachedQuery("tipo:" + tipo.name(),
+                "SELECT " + columnList + " FROM faculdades WHERE tipo_graduacao = ?", tipo.name());
+    }
+
+    public Map<TipoGraduacao, Long> countByTipoGraduacao() {
+        Map<TipoGraduacao, Long> counts = new EnumMap<>(TipoGraduacao.class);
+        if (useSummary(grupos, this::buildSummary)) {
+            grupos.counts().forEach((grupo, count) -> counts.merge(grupo.tipo(), count, Long::sum));
+        } else {
+            counts.putAll(countGroupedBy("tipo_graduacao", rs -> TipoGraduacao.valueOf(rs.getString(1))));
+        }
+        return counts;
+    }
+
+    public Map<Integer, Long> countByDuracaoSemestres() {
+        Map<Integer, Long> counts = new HashMap<>();
+        if (useSummary(grupos, this::buildSummary)) {
+            grupos.counts().forEach((grupo, count) -> {
+                if (grupo.duracaoSemestres() != null) {
+                    counts.merge(grupo.duracaoSemestres(), count, Long::sum);
+                }
+            });
+        } else {
+            counts.putAll(countGroupedBy("duracao_semestres", rs -> rs.getObject(1, Integer.class)));
+            counts.remove(null);
+        }
+        return counts;
     }
 
     public List<Faculdade> findBacharelados() {
@@ -121,6 +285,72 @@ public class FaculdadeRepository extends BaseRepository<Faculdade, Integer> {
     }
 
     public List<Faculdade> searchByNomeCurso(String termo) {
-        return executeQuery("SELECT * FROM faculdades WHERE nome_curso LIKE ?", "%" + termo + "%");
+        return searchByNomeCurso(termo, Integer.MAX_VALUE);
+    }
+
+    public List<Faculdade> searchByNomeCurso(String termo, int limite) {
+        if (searchIndex.isReady()) {
+            return searchIndex.search(termo, limite).stream().map(this::copy).toList();
+        }
+        return executeQuery("SELECT " + columnList + " FROM faculdades WHERE nome_curso LIKE ? LIMIT ?", "%" + termo + "%", limite);
     }
+
+    public void buildSearchIndex() {
+        if (rebuildSearchIndex(searchIndex)) {
+            logger.info("Índice de busca de faculdades construído: {} registros", searchIndex.size());
+        }
+    }
+
+    public void buildSummary() {
+        if (rebuildGroupCounter(grupos, List.of("tipo_graduacao", "duracao_semestres"),
+                rs -> new Grupo(TipoGraduacao.valueOf(rs.getString(2)), rs.getObject(3, Integer.class)))) {
+            logger.info("Resumo estatístico de faculdades construído: {} registros", grupos.total());
+        }
+    }
+
+    public boolean buildColumnar() {
+        long version = columnar.version();
+        try {
+            ColumnarFaculdades snapshot = ColumnarFaculdades.build(loadAllOrderedById());
+            boolean installed = useColumnar(snapshot, version);
+            if (installed) {
+                logger.info("Snapshot colunar de faculdades construído: {} registros", snapshot.size());
+            }
+            return installed;
+        } catch (SQLException e) {
+            failIfUnrecoverable(e);
+            logger.error("Erro ao construir snapshot colunar de faculdades: {}", e.getMessage());
+        }
+        return false;
+    }
+
+    public boolean useColumnar(ColumnarFaculdades snapshot, long version) {
+        return columnar.install(snapshot, version);
+    }
+
+    public long getColumnarVersion() {
+        return columnar.version();
+    }
+
+    public ColumnarFaculdades getColumnar() {
+        return columnar.snapshot();
+    }
+
+    @Override
+    protected void onSaved(Faculdade entity) {
+        super.onSaved(entity);
+        columnar.markStale(entity.getId());
+        grupos.put(entity.getId(), new Grupo(entity.getTipoGraduacao(), entity.getDuracaoSemestres()));
+        searchIndex.put(copy(entity));
+    }
+
+    @Override
+    protected void onDeleted(Integer id) {
+        super.onDeleted(id);
+        columnar.markStale(id);
+        grupos.remove(id);
+        searchIndex.remove(id);
+    }
+
+    private record Grupo(TipoGraduacao tipo, Integer duracaoSemestres) {}
 }
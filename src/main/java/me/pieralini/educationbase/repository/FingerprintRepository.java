@@ -0,0 +1,99 @@
+package me.pieralini.educationbase.repository;
+
+import me.pieralini.educationbase.config.DatabaseManager;
+import me.pieralini.educationbase.model.DataFingerprint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.*;
+import java.util.Optional;
+
+public class FingerprintRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(FingerprintRepository.class);
+    private static FingerprintRepository instance;
+
+    private static final String CREATE_TABLE_SQL = """
+            CREATE TABLE IF NOT EXISTS data_fingerprints (
+                resource VARCHAR(255) PRIMARY KEY,
+                sha256 CHAR(64) NOT NULL,
+                size_bytes BIGINT NOT NULL,
+                loaded_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+            )
+            """;
+
+    private final DatabaseManager databaseManager;
+    private volatile boolean tableReady;
+
+    private FingerprintRepository() {
+        this.databaseManager = DatabaseManager.getInstance();
+    }
+
+    public static synchronized FingerprintRepository getInstance() {
+        if (instance == null) {
+            instance = new FingerprintRepository();
+        }
+        return instance;
+    }
+
+    public Optional<DataFingerprint> findByResource(String resource) {
+        String sql = "SELECT resource, sha256, size_bytes FROM data_fingerprints WHERE resource = ?";
+        try (Connection conn = databaseManager.getConnection()) {
+            ensureTable(conn);
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setString(1, resource);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) {
+                        return Optional.of(new DataFingerprint(rs.getString(1), rs.getString(2), rs.getLong(3)));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            logger.error("Erro ao buscar impressão digital de {}: {}", resource, e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    public boolean save(DataFingerprint fingerprint) {
+        String sql = """
+                INSERT INTO data_fingerprints (resource, sha256, size_bytes) VALUES (?, ?, ?)
+                ON DUPLICATE KEY UPDATE sha256=VALUES(sha256), size_bytes=VALUES(size_bytes)
+                """;
+        try (Connection conn = databaseManager.getConnection()) {
+            ensureTable(conn);
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setString(1, fingerprint.resource());
+                stmt.setString(2, fingerprint.sha256());
+                stmt.setLong(3, fingerprint.sizeBytes());
+                stmt.executeUpdate();
+                return true;
+            }
+        } catch (SQLException e) {
+            logger.error("Erro ao gravar impressão digital de {}: {}", fingerprint.resource(), e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean delete(String resource) {
+        try (Connection conn = databaseManager.getConnection()) {
+            ensureTable(conn);
+            try (PreparedStatement stmt = conn.prepareStatement("DELETE FROM data_fingerprints WHERE resource = ?")) {
+                stmt.setString(1, resource);
+                return stmt.executeUpdate() > 0;
+            }
+        } catch (SQLException e) {
+            logger.error("Erro ao remover impressão digital de {}: {}", resource, e.getMessage());
+            return false;
+        }
+    }
+
+    private void ensureTable(Connection conn) throws SQLException {
+        if (tableReady) {
+            return;
+        }
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(CREATE_TABLE_SQL);
+        }
+        tableReady = true;
+    }
+}
@@ -0,0 +1,97 @@
+package me.pieralini.educationbase.repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class GroupCounter<ID, K> {
+
+    private Map<ID, K> keys = new HashMap<>();
+    private final Map<K, Long> counts = new HashMap<>();
+    private final List<Runnable> pending = new ArrayList<>();
+    private boolean rebuilding;
+    private long seededAt;
+    private volatile boolean ready;
+
+    boolean isReady() {
+        return ready;
+    }
+
+    synchronized void beginRebuild() {
+        rebuilding = true;
+        pending.clear();
+    }
+
+    synchronized void completeRebuild(Map<ID, K> loaded) {
+        keys = loaded;
+        counts.clear();
+        for (K key : loaded.values()) {
+            counts.merge(key, 1L, Long::sum);
+        }
+        pending.forEach(Runnable::run);
+        pending.clear();
+        rebuilding = false;
+        seededAt = System.nanoTime();
+        ready = true;
+    }
+
+    synchronized void abortRebuild() {
+        rebuilding = false;
+        if (ready) {
+            pending.forEach(Runnable::run);
+        }
+        pending.clear();
+    }
+
+    synchronized boolean claimRefresh(long maxAgeNanos) {
+        if (!ready || rebuilding || maxAgeNanos <= 0 || System.nanoTime() - seededAt < maxAgeNanos) {
+            return false;
+        }
+        seededAt = System.nanoTime();
+        return true;
+    }
+
+    synchronized void put(ID id, K key) {
+        if (rebuilding) {
+            pending.add(() -> apply(id, key));
+        } else if (ready) {
+            apply(id, key);
+        }
+    }
+
+    synchronized void remove(ID id) {
+        if (rebuilding) {
+            pending.add(() -> discard(id));
+        } else if (ready) {
+            discard(id);
+        }
+    }
+
+    synchronized long total() {
+        return keys.size();
+    }
+
+    synchronized Map<K, Long> counts() {
+        return new HashMap<>(counts);
+    }
+
+    private void apply(ID id, K key) {
+        boolean known = keys.containsKey(id);
+        K previous = keys.put(id, key);
+        if (known) {
+            decrement(previous);
+        }
+        counts.merge(key, 1L, Long::sum);
+    }
+
+    private void discard(ID id) {
+        if (keys.containsKey(id)) {
+            decrement(keys.remove(id));
+        }
+    }
+
+    private void decrement(K key) {
+        counts.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+    }
+}
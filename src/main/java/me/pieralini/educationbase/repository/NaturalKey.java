@@ -0,0 +1,51 @@
+package me.pieralini.educationbase.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public record NaturalKey<T>(List<String> keyColumns, Function<T, List<?>> keyValues,
+                            List<String> contentColumns, Function<T, List<?>> contentValues) {
+
+    static final char SEPARATOR = '\u001F';
+
+    public String keyOf(T entity) {
+        return join(keyValues.apply(entity));
+    }
+
+    public String contentHashOf(T entity) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(join(contentValues.apply(entity)).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    String contentHashSql() {
+        return contentColumns.stream()
+                .map(column -> "CONVERT(IFNULL(" + column + ", '') USING utf8mb4)")
+                .collect(Collectors.joining(", ", "SHA2(CONCAT_WS(CHAR(31 USING utf8mb4), ", "), 256)"));
+    }
+
+    static String join(List<?> values) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                sb.append(SEPARATOR);
+            }
+            Object value = values.get(i);
+            if (value instanceof Enum<?> constant) {
+                sb.append(constant.name());
+            } else if (value != null) {
+                sb.append(value);
+            }
+        }
+        return sb.toString();
+    }
+}
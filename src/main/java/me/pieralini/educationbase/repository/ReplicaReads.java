@@ -0,0 +1,216 @@
+package me.pieralini.educationbase.repository;
+
+import me.pieralini.educationbase.config.ReadReplica;
+import me.pieralini.educationbase.config.ReplicaRouter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+final class ReplicaReads {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaReads.class);
+    private static final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private ReplicaReads() {}
+
+    static <R> R attempt(ReadReplica replica, SqlFunction<R> work) throws SQLException {
+        return attempt(replica, work, null);
+    }
+
+    private static <R> R attempt(ReadReplica replica, SqlFunction<R> work, Attempt tracked) throws SQLException {
+        Optional<Deadline> deadline = Deadline.current();
+        deadline.ifPresent(Deadline::check);
+        long timeoutMillis = deadline.map(Deadline::remainingMillis).orElse(Long.MAX_VALUE);
+        replica.begin();
+        long start = System.nanoTime();
+        boolean success = false;
+        try (Connection conn = replica.getConnection(timeoutMillis)) {
+            if (tracked == null) {
+                R result = work.apply(conn);
+                success = true;
+                return result;
+            }
+            if (!tracked.begin()) {
+                throw new SQLException("Leitura redundante cancelada na réplica " + replica.getName());
+            }
+            try {
+                R result = work.apply(tracked.track(conn));
+                success = true;
+                return result;
+            } finally {
+                tracked.finish();
+            }
+        } catch (SQLException e) {
+            if (isConnectionFailure(e)) {
+                replica.markDown(e.getMessage());
+            }
+            throw e;
+        } finally {
+            replica.end(System.nanoTime() - start, success);
+        }
+    }
+
+    static <R> R hedged(ReplicaRouter router, ReadReplica first, SqlFunction<R> work) throws SQLException {
+        Race<R> race = new Race<>(Deadline.current(), work);
+        race.submit(first);
+        try {
+            try {
+                return race.winner.get(router.hedgeDelayNanos(first), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                ReadReplica second = router.choose(first);
+                if (second != null) {
+                    router.recordHedge();
+                    race.submit(second);
+                }
+            }
+            return race.winner.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Leitura interrompida", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new SQLException("Erro na leitura redundante: " + cause.getMessage(), cause);
+        }
+    }
+
+    static boolean shouldFallBack(SQLException e) {
+        return e instanceof SQLTransientConnectionException || isConnectionFailure(e);
+    }
+
+    static boolean isConnectionFailure(SQLException e) {
+        return e instanceof SQLNonTransientConnectionException
+                || (e.getSQLState() != null && e.getSQLState().startsWith("08"));
+    }
+
+    private static final class Race<R> {
+
+        private final CompletableFuture<R> winner = new CompletableFuture<>();
+        private final Optional<Deadline> deadline;
+        private final SqlFunction<R> work;
+        private final List<Attempt> attempts = new ArrayList<>();
+        private int started;
+        private int failed;
+
+        private Race(Optional<Deadline> deadline, SqlFunction<R> work) {
+            this.deadline = deadline;
+            this.work = work;
+            winner.whenComplete((result, error) -> cancelLosers());
+        }
+
+        private void submit(ReadReplica replica) {
+            Attempt attempt = new Attempt();
+            synchronized (this) {
+                started++;
+                attempts.add(attempt);
+            }
+            executor.execute(() -> {
+                try {
+                    winner.complete(deadline.isPresent()
+                            ? deadline.get().run(() -> unchecked(replica, attempt))
+                            : unchecked(replica, attempt));
+                } catch (Throwable t) {
+                    fail(t);
+                }
+            });
+        }
+
+        private R unchecked(ReadReplica replica, Attempt attempt) {
+            try {
+                return attempt(replica, work, attempt);
+            } catch (SQLException e) {
+                throw new CompletionException(e);
+            }
+        }
+
+        private synchronized void fail(Throwable t) {
+            if (++failed == started) {
+                winner.completeExceptionally(t);
+            }
+        }
+
+        private void cancelLosers() {
+            List<Attempt> running;
+            synchronized (this) {
+                running = new ArrayList<>(attempts);
+            }
+            running.forEach(Attempt::cancel);
+        }
+    }
+
+    private static final class Attempt {
+
+        private final List<Statement> statements = new ArrayList<>();
+        private boolean active;
+        private boolean cancelled;
+
+        private synchronized boolean begin() {
+            active = !cancelled;
+            return active;
+        }
+
+        private synchronized void finish() {
+            active = false;
+            statements.clear();
+        }
+
+        private synchronized void cancel() {
+            cancelled = true;
+            if (!active) {
+                return;
+            }
+            for (Statement statement : statements) {
+                try {
+                    statement.cancel();
+                } catch (SQLException e) {
+                    logger.debug("Erro ao cancelar leitura redundante: {}", e.getMessage());
+                }
+            }
+        }
+
+        private synchronized void register(Statement statement) throws SQLException {
+            statements.add(statement);
+            if (cancelled) {
+                statement.cancel();
+            }
+        }
+
+        private Connection track(Connection target) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        Object result;
+                        try {
+                            result = method.invoke(target, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                        if (result instanceof Statement statement) {
+                            register(statement);
+                        }
+                        return result;
+                    });
+        }
+    }
+}
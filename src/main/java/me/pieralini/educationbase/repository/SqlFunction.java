@@ -0,0 +1,10 @@
+package me.pieralini.educationbase.repository;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+@FunctionalInterface
+public interface SqlFunction<R> {
+
+    R apply(Connection conn) throws SQLException;
+}
@@ -0,0 +1,3 @@
+package me.pieralini.educationbase.repository;
+
+public record SyncResult(int total, int inserted, int updated, int deleted, int unchanged, boolean complete) {}
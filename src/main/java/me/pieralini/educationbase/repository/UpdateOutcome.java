@@ -0,0 +1,3 @@
+package me.pieralini.educationbase.repository;
+
+public enum UpdateOutcome { UPDATED, CONFLICT, NOT_FOUND, FAILED }
@@ -0,0 +1,447 @@
+package me.pieralini.educationbase.repository;
+
+import me.pieralini.educationbase.config.ConfigManager;
+import me.pieralini.educationbase.config.ConfigManager.WriteBehindConfig.Durability;
+import me.pieralini.educationbase.config.Transaction;
+import me.pieralini.educationbase.loader.BinaryCodec;
+import me.pieralini.educationbase.loader.BinaryCodecs;
+import me.pieralini.educationbase.model.Curso;
+import me.pieralini.educationbase.model.Faculdade;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.CRC32C;
+
+public class WriteBehindBuffer<T, ID> {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindBuffer.class);
+    private static final int JOURNAL_MAGIC = 0x45425742;
+    private static final int JOURNAL_HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int ENTRY_HEADER_SIZE = 2 * Integer.BYTES;
+    private static WriteBehindBuffer<Curso, Integer> cursos;
+    private static WriteBehindBuffer<Faculdade, Integer> faculdades;
+
+    private final String name;
+    private final BaseRepository<T, ID> repository;
+    private final BinaryCodec<T> codec;
+    private final ConfigManager.WriteBehindConfig config;
+    private final Path journalPath;
+    private final Path rejectedPath;
+    private final Object flushLock = new Object();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private Map<ID, T> pending = new LinkedHashMap<>();
+    private Map<ID, T> flushing = Map.of();
+    private ByteBuffer encodeBuffer = ByteBuffer.allocate(4096);
+    private FileChannel journal;
+    private ScheduledExecutorService scheduler;
+    private boolean closed;
+
+    WriteBehindBuffer(String name, BaseRepository<T, ID> repository, BinaryCodec<T> codec,
+                      ConfigManager.WriteBehindConfig config) {
+        this.name = name;
+        this.repository = repository;
+        this.codec = codec;
+        this.config = config;
+        this.journalPath = Path.of(config.journalDir(), name + ".journal");
+        this.rejectedPath = Path.of(config.journalDir(), name + ".rejeitados");
+    }
+
+    public static synchronized WriteBehindBuffer<Curso, Integer> cursos() {
+        if (cursos == null) {
+            cursos = new WriteBehindBuffer<>("cursos", CursoRepository.getInstance(), BinaryCodecs.CURSO,
+                    ConfigManager.getInstance().getWriteBehindConfig());
+            cursos.start();
+        }
+        return cursos;
+    }
+
+    public static synchronized WriteBehindBuffer<Faculdade, Integer> faculdades() {
+        if (faculdades == null) {
+            faculdades = new WriteBehindBuffer<>("faculdades", FaculdadeRepository.getInstance(), BinaryCodecs.FACULDADE,
+                    ConfigManager.getInstance().getWriteBehindConfig());
+            faculdades.start();
+        }
+        return faculdades;
+    }
+
+    public static synchronized void shutdownAll() {
+        if (cursos != null) {
+            cursos.close();
+        }
+        if (faculdades != null) {
+            faculdades.close();
+        }
+    }
+
+    public boolean isEnabled() {
+        return config.enabled();
+    }
+
+    synchronized void start() {
+        if (!config.enabled() || scheduler != null) {
+            return;
+        }
+        if (config.durability() != Durability.MEMORY) {
+            try {
+                replayJournal();
+                Files.createDirectories(journalPath.getParent());
+                journal = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                rewriteJournal();
+            } catch (IOException e) {
+                throw new IllegalStateException("Erro ao abrir journal de escrita atrasada de " + name, e);
+            }
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "write-behind-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, config.flushIntervalMillis(), config.flushIntervalMillis(),
+                TimeUnit.MILLISECONDS);
+        logger.info("Escrita atrasada de {} ativa: {} pendentes recuperados, durabilidade {}",
+                name, pending.size(), config.durability());
+    }
+
+    public T submit(T entity) {
+        ID id = repository.getId(entity);
+        if (id == null) {
+            throw new IllegalArgumentException("ID é obrigatório para atualização");
+        }
+        repository.prepareUpdate(entity);
+        if (!enqueue(id, entity)) {
+            flush();
+            if (!enqueue(id, entity)) {
+                throw new IllegalStateException("Buffer de escrita atrasada de " + name + " cheio");
+            }
+        }
+        return entity;
+    }
+
+    private synchronized boolean enqueue(ID id, T entity) {
+        if (closed) {
+            throw new IllegalStateException("Buffer de escrita atrasada de " + name + " encerrado");
+        }
+        if (pending.size() >= config.maxPending() && !pending.containsKey(id)) {
+            return false;
+        }
+        appendToJournal(entity);
+        pending.put(id, entity);
+        if (pending.size() >= config.batchSize() && flushScheduled.compareAndSet(false, true)) {
+            scheduler.execute(this::flushQuietly);
+        }
+        return true;
+    }
+
+    public synchronized Optional<T> findPending(ID id) {
+        T entity = pending.get(id);
+        return Optional.ofNullable(entity != null ? entity : flushing.get(id));
+    }
+
+    public synchronized int size() {
+        return pending.size();
+    }
+
+    public void discard(Collection<ID> ids) {
+        synchronized (flushLock) {
+            synchronized (this) {
+                if (pending.keySet().removeAll(ids)) {
+                    rewriteJournal();
+                }
+            }
+        }
+    }
+
+    public int flush() {
+        synchronized (flushLock) {
+            flushScheduled.set(false);
+            List<T> batch;
+            synchronized (this) {
+                if (pending.isEmpty()) {
+                    return 0;
+                }
+                flushing = pending;
+                pending = new LinkedHashMap<>();
+                batch = new ArrayList<>(flushing.values());
+            }
+            long start = System.nanoTime();
+            int written = 0;
+            List<T> retry = new ArrayList<>();
+            List<T> rejected = new ArrayList<>();
+            for (int from = 0; from < batch.size(); from += config.batchSize()) {
+                List<T> chunk = batch.subList(from, Math.min(from + config.batchSize(), batch.size()));
+                try {
+                    repository.writeUpdates(chunk, chunk.size(), new int[chunk.size()]);
+                    written += chunk.size();
+                } catch (SQLException e) {
+                    if (isTransient(e)) {
+                        logger.error("Erro ao gravar atualizações pendentes de {}: {}", name, e.getMessage());
+                        retry.addAll(batch.subList(from, batch.size()));
+                        break;
+                    }
+                    logger.warn("Lote de escrita atrasada de {} rejeitado, gravando registro a registro: {}",
+                            name, e.getMessage());
+                    written += writeOneByOne(chunk, retry, rejected);
+                } catch (RuntimeException e) {
+                    logger.error("Erro ao gravar atualizações pendentes de {}: {}", name, e.getMessage());
+                    retry.addAll(batch.subList(from, batch.size()));
+                    break;
+                }
+            }
+            logger.debug("Escrita atrasada de {}: {} atualizações gravadas em {} ms",
+                    name, written, (System.nanoTime() - start) / 1_000_000);
+            synchronized (this) {
+                for (T entity : retry) {
+                    pending.putIfAbsent(repository.getId(entity), entity);
+                }
+                reject(rejected);
+                flushing = Map.of();
+                rewriteJournal();
+            }
+            return written;
+        }
+    }
+
+    private int writeOneByOne(List<T> chunk, List<T> retry, List<T> rejected) {
+        int written = 0;
+        for (int i = 0; i < chunk.size(); i++) {
+            T entity = chunk.get(i);
+            try {
+                repository.writeUpdates(List.of(entity), 1, new int[1]);
+                written++;
+            } catch (SQLException e) {
+                if (isTransient(e)) {
+                    logger.error("Erro ao gravar atualizações pendentes de {}: {}", name, e.getMessage());
+                    retry.addAll(chunk.subList(i, chunk.size()));
+                    break;
+                }
+                logger.error("Atualização de {} {} rejeitada pelo banco e descartada: {}",
+                        name, repository.getId(entity), e.getMessage());
+                rejected.add(entity);
+            } catch (RuntimeException e) {
+                logger.error("Erro ao gravar atualizações pendentes de {}: {}", name, e.getMessage());
+                retry.addAll(chunk.subList(i, chunk.size()));
+                break;
+            }
+        }
+        return written;
+    }
+
+    private static boolean isTransient(SQLException e) {
+        return e instanceof SQLTransientException || e instanceof SQLRecoverableException
+                || e.getCause() instanceof SQLTransientException || ReplicaReads.isConnectionFailure(e)
+                || (e.getSQLState() != null && e.getSQLState().startsWith("40"));
+    }
+
+    private void reject(List<T> rejected) {
+        if (rejected.isEmpty() || config.durability() == Durability.MEMORY) {
+            return;
+        }
+        try (FileChannel out = FileChannel.open(rejectedPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            if (out.size() == 0) {
+                writeHeader(out);
+            }
+            for (T entity : rejected) {
+                writeEntry(out, entity);
+            }
+            out.force(false);
+            logger.error("{} atualizações rejeitadas de {} gravadas em {}", rejected.size(), name, rejectedPath);
+        } catch (IOException e) {
+            logger.error("Erro ao gravar atualizações rejeitadas de {} em {}: {}", name, rejectedPath, e.getMessage());
+        }
+    }
+
+    public void flushPending(ID id) {
+        if (findPending(id).isEmpty()) {
+            return;
+        }
+        if (Transaction.current().isEmpty()) {
+            flush();
+            return;
+        }
+        try {
+            scheduler.submit(this::flush).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido aguardando escrita atrasada de " + name, e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Erro ao gravar atualizações pendentes de " + name, e.getCause());
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            logger.error("Erro na escrita atrasada de {}: {}", name, e.getMessage());
+        }
+    }
+
+    public void close() {
+        synchronized (this) {
+            if (scheduler == null || closed) {
+                return;
+            }
+            closed = true;
+            scheduler.shutdownNow();
+        }
+        int written = flush();
+        synchronized (this) {
+            logger.info("Escrita atrasada de {} encerrada: {} atualizações gravadas, {} pendentes",
+                    name, written, pending.size());
+            if (journal != null) {
+                try {
+                    journal.close();
+                } catch (IOException e) {
+                    logger.error("Erro ao fechar journal de escrita atrasada de {}: {}", name, e.getMessage());
+                }
+                journal = null;
+            }
+        }
+    }
+
+    private void appendToJournal(T entity) {
+        if (journal == null) {
+            return;
+        }
+        try {
+            writeEntry(journal, entity);
+            if (config.durability() == Durability.SYNC) {
+                journal.force(false);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Erro ao gravar journal de escrita atrasada de " + name, e);
+        }
+    }
+
+    private void rewriteJournal() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            if (pending.isEmpty()) {
+                journal.truncate(0);
+                writeHeader(journal);
+            } else {
+                Path tmp = journalPath.resolveSibling(journalPath.getFileName() + ".tmp");
+                try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING)) {
+                    writeHeader(out);
+                    for (T entity : pending.values()) {
+                        writeEntry(out, entity);
+                    }
+                    out.force(false);
+                }
+                Files.move(tmp, journalPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                journal.close();
+                journal = FileChannel.open(journalPath, StandardOpenOption.WRITE);
+                journal.position(journal.size());
+            }
+            if (config.durability() == Durability.SYNC) {
+                journal.force(false);
+            }
+        } catch (IOException e) {
+            logger.error("Erro ao compactar journal de escrita atrasada de {}: {}", name, e.getMessage());
+        }
+    }
+
+    private void writeHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(JOURNAL_HEADER_SIZE);
+        header.putInt(JOURNAL_MAGIC).putInt(schemaHash()).flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+    }
+
+    private void writeEntry(FileChannel channel, T entity) throws IOException {
+        ByteBuffer payload = encode(entity);
+        CRC32C crc = new CRC32C();
+        crc.update(payload.duplicate());
+        ByteBuffer header = ByteBuffer.allocate(ENTRY_HEADER_SIZE);
+        header.putInt(payload.remaining()).putInt((int) crc.getValue()).flip();
+        ByteBuffer[] entry = {header, payload};
+        while (payload.hasRemaining()) {
+            channel.write(entry);
+        }
+    }
+
+    private ByteBuffer encode(T entity) {
+        while (true) {
+            try {
+                encodeBuffer.clear();
+                codec.encode(entity, encodeBuffer);
+                return encodeBuffer.flip();
+            } catch (BufferOverflowException e) {
+                encodeBuffer = ByteBuffer.allocate(encodeBuffer.capacity() * 2);
+            }
+        }
+    }
+
+    private void replayJournal() throws IOException {
+        if (!Files.isRegularFile(journalPath) || Files.size(journalPath) == 0) {
+            return;
+        }
+        ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(journalPath));
+        if (data.remaining() < JOURNAL_HEADER_SIZE || data.getInt() != JOURNAL_MAGIC || data.getInt() != schemaHash()) {
+            Path rejected = journalPath.resolveSibling(journalPath.getFileName() + ".invalido");
+            Files.move(journalPath, rejected, StandardCopyOption.REPLACE_EXISTING);
+            logger.error("Journal de escrita atrasada de {} com formato desconhecido, movido para {}", name, rejected);
+            return;
+        }
+        int replayed = 0;
+        while (data.remaining() >= ENTRY_HEADER_SIZE) {
+            int length = data.getInt();
+            int checksum = data.getInt();
+            if (length < 0 || length > data.remaining()) {
+                break;
+            }
+            ByteBuffer payload = data.slice(data.position(), length);
+            CRC32C crc = new CRC32C();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            try {
+                T entity = codec.decode(payload);
+                pending.put(repository.getId(entity), entity);
+            } catch (RuntimeException e) {
+                break;
+            }
+            data.position(data.position() + length);
+            replayed++;
+        }
+        if (data.hasRemaining()) {
+            logger.warn("Journal de escrita atrasada de {} truncado após {} registros", name, replayed);
+        }
+        logger.info("Journal de escrita atrasada de {}: {} registros reaplicados", name, replayed);
+    }
+
+    private int schemaHash() {
+        CRC32C crc = new CRC32C();
+        crc.update((codec.type() + String.join(",", codec.schema())).getBytes(StandardCharsets.UTF_8));
+        return (int) crc.getValue();
+    }
+}
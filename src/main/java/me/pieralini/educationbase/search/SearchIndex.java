@@ -0,0 +1,221 @@
+package me.pieralini.educationbase.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+public class SearchIndex<T> {
+
+    private static final int GRAM_SIZE = 3;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private final Function<T, Integer> idOf;
+    private final Function<T, String> textOf;
+    private final Map<Integer, Document<T>> documents = new HashMap<>();
+    private final Map<String, Set<Integer>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Runnable> pending = new ArrayList<>();
+    private boolean rebuilding;
+    private volatile boolean ready;
+
+    public SearchIndex(Function<T, Integer> idOf, Function<T, String> textOf) {
+        this.idOf = idOf;
+        this.textOf = textOf;
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            pending.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void completeRebuild(List<T> entities) {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            entities.forEach(this::index);
+            pending.forEach(Runnable::run);
+            pending.clear();
+            rebuilding = false;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void abortRebuild() {
+        lock.writeLock().lock();
+        try {
+            if (ready) {
+                pending.forEach(Runnable::run);
+            }
+            pending.clear();
+            rebuilding = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void put(T entity) {
+        Integer id = idOf.apply(entity);
+        if (id == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (rebuilding) {
+                pending.add(() -> {
+                    unindex(id);
+                    index(entity);
+                });
+            } else if (ready) {
+                unindex(id);
+                index(entity);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Integer id) {
+        lock.writeLock().lock();
+        try {
+            if (rebuilding) {
+                pending.add(() -> unindex(id));
+            } else {
+                unindex(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<T> search(String term, int limit) {
+        String query = normalize(term);
+        List<Match<T>> matches = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            for (Document<T> document : candidates(query)) {
+                int position = document.text().indexOf(query);
+                if (position >= 0) {
+                    matches.add(new Match<>(document, position));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return matches.stream()
+                .sorted(Comparator.<Match<T>>comparingInt(Match::position)
+                        .thenComparingInt(m -> m.document().text().length())
+                        .thenComparingInt(m -> m.document().id()))
+                .limit(limit)
+                .map(m -> m.document().entity())
+                .toList();
+    }
+
+    private Iterable<Document<T>> candidates(String query) {
+        if (query.length() < GRAM_SIZE) {
+            return documents.values();
+        }
+
+        Set<Integer> ids = null;
+        for (String gram : grams(query)) {
+            Set<Integer> posting = postings.get(gram);
+            if (posting == null) {
+                return List.of();
+            }
+            if (ids == null) {
+                ids = new HashSet<>(posting);
+            } else {
+                ids.retainAll(posting);
+            }
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        List<Document<T>> result = new ArrayList<>(ids.size());
+        for (Integer id : ids) {
+            result.add(documents.get(id));
+        }
+        return result;
+    }
+
+    private void index(T entity) {
+        Integer id = idOf.apply(entity);
+        if (id == null) {
+            return;
+        }
+        Document<T> document = new Document<>(id, normalize(textOf.apply(entity)), entity);
+        documents.put(id, document);
+        for (String gram : grams(document.text())) {
+            postings.computeIfAbsent(gram, g -> new HashSet<>()).add(id);
+        }
+    }
+
+    private void unindex(Integer id) {
+        Document<T> previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : grams(previous.text())) {
+            Set<Integer> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    private record Document<T>(int id, String text, T entity) {}
+
+    private record Match<T>(Document<T> document, int position) {}
+}
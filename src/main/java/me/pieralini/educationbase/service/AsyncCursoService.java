@@ -0,0 +1,91 @@
+package me.pieralini.educationbase.service;
+
+import me.pieralini.educationbase.model.Curso;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+public class AsyncCursoService {
+
+    private final CursoService service;
+    private final AsyncExecutor executor;
+
+    public AsyncCursoService() {
+        this(new CursoService(), AsyncExecutor.getInstance());
+    }
+
+    public AsyncCursoService(CursoService service, AsyncExecutor executor) {
+        this.service = service;
+        this.executor = executor;
+    }
+
+    public CompletableFuture<Optional<Curso>> criar(Curso curso) {
+        return executor.submit(() -> service.criar(curso));
+    }
+
+    public CompletableFuture<Optional<Curso>> atualizar(Integer id, Curso cursoAtualizado) {
+        return executor.submit(() -> service.atualizar(id, cursoAtualizado));
+    }
+
+    public CompletableFuture<ResultadoAtualizacao<Curso>> atualizarSeInalterado(Integer id, Curso cursoAtualizado,
+                                                                                Long versaoLida) {
+        return executor.submit(() -> service.atualizarSeInalterado(id, cursoAtualizado, versaoLida));
+    }
+
+    public CompletableFuture<ResultadoLote<Curso>> criarEmLote(List<Curso> entidades) {
+        return executor.submit(() -> service.criarEmLote(entidades));
+    }
+
+    public CompletableFuture<ResultadoLote<Curso>> atualizarEmLote(List<Curso> entidades) {
+        return executor.submit(() -> service.atualizarEmLote(entidades));
+    }
+
+    public CompletableFuture<ResultadoLote<Integer>> removerEmLote(List<Integer> ids) {
+        return executor.submit(() -> service.removerEmLote(ids));
+    }
+
+    public CompletableFuture<List<Curso>> buscarPorIds(List<Integer> ids) {
+        return executor.submit(() -> service.buscarPorIds(ids));
+    }
+
+    public CompletableFuture<Optional<Curso>> buscarPorId(Integer id) {
+        return executor.submit(() -> service.buscarPorId(id));
+    }
+
+    public CompletableFuture<List<Curso>> listarTodos() {
+        return executor.submit(service::listarTodos);
+    }
+
+    public CompletableFuture<List<Curso>> listarPagina(Integer aposId, int limite) {
+        return executor.submit(() -> service.listarPagina(aposId, limite));
+    }
+
+    public CompletableFuture<List<ResumoCurso>> listarResumo(Integer aposId, int limite) {
+        return executor.submit(() -> service.listarResumo(aposId, limite));
+    }
+
+    public CompletableFuture<Boolean> remover(Integer id) {
+        return executor.submit(() -> service.remover(id));
+    }
+
+    public CompletableFuture<List<Curso>> buscarPorPlataforma(String plataforma) {
+        return executor.submit(() -> service.buscarPorPlataforma(plataforma));
+    }
+
+    public CompletableFuture<List<Curso>> pesquisar(String termo) {
+        return executor.submit(() -> service.pesquisar(termo));
+    }
+
+    public CompletableFuture<List<Curso>> pesquisar(String termo, int limite) {
+        return executor.submit(() -> service.pesquisar(termo, limite));
+    }
+
+    public CompletableFuture<Long> contarTodos() {
+        return executor.submit(service::contarTodos);
+    }
+
+    public CompletableFuture<EstatisticasCursos> estatisticas() {
+        return executor.submit(service::estatisticas);
+    }
+}
@@ -0,0 +1,109 @@
+package me.pieralini.educationbase.service;
+
+import me.pieralini.educationbase.config.DatabaseManager;
+import me.pieralini.educationbase.repository.Deadline;
+import me.pieralini.educationbase.repository.DeadlineExceededException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+public class AsyncExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncExecutor.class);
+    private static AsyncExecutor instance;
+
+    private final ExecutorService executor;
+    private final ResizableSemaphore permits;
+    private int maxConcurrency;
+
+    private AsyncExecutor(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new ResizableSemaphore(maxConcurrency);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    public static synchronized AsyncExecutor getInstance() {
+        if (instance == null) {
+            DatabaseManager databaseManager = DatabaseManager.getInstance();
+            instance = new AsyncExecutor(databaseManager.getMaximumPoolSize());
+            databaseManager.addPoolLimiter(instance::getQueueLength, instance::resize);
+            logger.info("Executor assíncrono iniciado com limite de {} operações simultâneas", instance.maxConcurrency);
+        }
+        return instance;
+    }
+
+    public <R> CompletableFuture<R> submit(Supplier<R> operation) {
+        Optional<Deadline> deadline = Deadline.current();
+        return CompletableFuture.supplyAsync(() -> {
+            acquire(deadline);
+            try {
+                return deadline.map(d -> d.run(operation)).orElseGet(operation);
+            } finally {
+                permits.release();
+            }
+        }, executor);
+    }
+
+    private synchronized void resize(int maxConcurrency) {
+        int delta = maxConcurrency - this.maxConcurrency;
+        if (delta > 0) {
+            permits.release(delta);
+        } else if (delta < 0) {
+            permits.reduce(-delta);
+        }
+        this.maxConcurrency = maxConcurrency;
+        logger.debug("Limite do executor assíncrono ajustado para {} operações simultâneas", maxConcurrency);
+    }
+
+    public synchronized int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public int getQueueLength() {
+        return permits.getQueueLength();
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void acquire(Optional<Deadline> deadline) {
+        try {
+            if (deadline.isEmpty()) {
+                permits.acquire();
+                return;
+            }
+            if (!permits.tryAcquire(deadline.get().remainingMillis(), TimeUnit.MILLISECONDS)) {
+                throw new DeadlineExceededException("Prazo esgotado aguardando vaga no executor assíncrono");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    public void close() {
+        executor.close();
+    }
+
+    private static final class ResizableSemaphore extends Semaphore {
+
+        private static final long serialVersionUID = 1L;
+
+        private ResizableSemaphore(int permits) {
+            super(permits, true);
+        }
+
+        private void reduce(int reduction) {
+            reducePermits(reduction);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package me.pieralini.educationbase.service;
+
+import me.pieralini.educationbase.model.Faculdade;
+import me.pieralini.educationbase.model.Faculdade.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+public class AsyncFaculdadeService {
+
+    private final FaculdadeService service;
+    private final AsyncExecutor executor;
+
+    public AsyncFaculdadeService() {
+        this(new FaculdadeService(), AsyncExecutor.getInstance());
+    }
+
+    public AsyncFaculdadeService(FaculdadeService service, AsyncExecutor executor) {
+        this.service = service;
+        this.executor = executor;
+    }
+
+    public CompletableFuture<Optional<Faculdade>> criar(Faculdade faculdade) {
+        return executor.submit(() -> service.criar(faculdade));
+    }
+
+    public CompletableFuture<Optional<Faculdade>> atualizar(Integer id, Faculdade faculdadeAtualizada) {
+        return executor.submit(() -> service.atualizar(id, faculdadeAtualizada));
+    }
+
+    public CompletableFuture<ResultadoAtualizacao<Faculdade>> atualizarSeInalterado(Integer id,
+                                                                                    Faculdade faculdadeAtualizada,
+                                                                                    Long versaoLida) {
+        return executor.submit(() -> service.atualizarSeInalterado(id, faculdadeAtualizada, versaoLida));
+    }
+
+    public CompletableFuture<ResultadoLote<Faculdade>> criarEmLote(List<Faculdade> entidades) {
+        return executor.submit(() -> service.criarEmLote(entidades));
+    }
+
+    public CompletableFuture<ResultadoLote<Faculdade>> atualizarEmLote(List<Faculdade> entidades) {
+        return executor.submit(() -> service.atualizarEmLote(entidades));
+    }
+
+    public CompletableFuture<ResultadoLote<Integer>> removerEmLote(List<Integer> ids) {
+        return executor.submit(() -> service.removerEmLote(ids));
+    }
+
+    public CompletableFuture<List<Faculdade>> buscarPorIds(List<Integer> ids) {
+        return executor.submit(() -> service.buscarPorIds(ids));
+    }
+
+    public CompletableFuture<Optional<Faculdade>> buscarPorId(Integer id) {
+        return executor.submit(() -> service.buscarPorId(id));
+    }
+
+    public CompletableFuture<List<Faculdade>> listarTodas() {
+        return executor.submit(service::listarTodas);
+    }
+
+    public CompletableFuture<List<Faculdade>> listarPagina(Integer aposId, int limite) {
+        return executor.submit(() -> service.listarPagina(aposId, limite));
+    }
+
+    public CompletableFuture<List<ResumoFaculdade>> listarResumo(Integer aposId, int limite) {
+        return executor.submit(() -> service.listarResumo(aposId, limite));
+    }
+
+    public CompletableFuture<Boolean> remover(Integer id) {
+        return executor.submit(() -> service.remover(id));
+    }
+
+    public CompletableFuture<List<Faculdade>> buscarPorTipo(TipoGraduacao tipo) {
+        return executor.submit(() -> service.buscarPorTipo(tipo));
+    }
+
+    public CompletableFuture<List<Faculdade>> buscarBacharelados() {
+        return executor.submit(service::buscarBacharelados);
+    }
+
+    public CompletableFuture<List<Faculdade>> buscarTecnologos() {
+        return executor.submit(service::buscarTecnologos);
+    }
+
+    public CompletableFuture<List<Faculdade>> pesquisar(String termo) {
+        return executor.submit(() -> service.pesquisar(termo));
+    }
+
+    public CompletableFuture<List<Faculdade>> pesquisar(String termo, int limite) {
+        return executor.submit(() -> service.pesquisar(termo, limite));
+    }
+
+    public CompletableFuture<Long> contarTodas() {
+        return executor.submit(service::contarTodas);
+    }
+
+    public CompletableFuture<EstatisticasFaculdades> estatisticas() {
+        return executor.submit(service::estatisticas);
+    }
+}
@@ -1,45 +1,109 @@
 package me.pieralini.educationbase.service;
 
+import me.pieralini.educationbase.cache.CacheStats;
+import me.pieralini.educationbase.config.DatabaseManager;
+import me.pieralini.educationbase.config.Transaction;
 import me.pieralini.educationbase.model.Curso;
 import me.pieralini.educationbase.repository.CursoRepository;
+import me.pieralini.educationbase.repository.Deadline;
+import me.pieralini.educationbase.repository.WriteBehindBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 public class CursoService {
 
     private static final Logger logger = LoggerFactory.getLogger(CursoService.class);
     private final CursoRepository repository;
+    private final WriteBehindBuffer<Curso, Integer> escritaAtrasada;
 
     public CursoService() {
         this.repository = CursoRepository.getInstance();
+        this.escritaAtrasada = WriteBehindBuffer.cursos();
     }
 
-    public Curso criar(Curso curso) {
+    public Optional<Curso> criar(Curso curso) {
         validarCurso(curso);
         return repository.save(curso);
     }
 
     public Optional<Curso> atualizar(Integer id, Curso cursoAtualizado) {
-        return repository.findById(id).map(cursoExistente -> {
-            cursoAtualizado.setId(id);
-            cursoAtualizado.setCreatedAt(cursoExistente.getCreatedAt());
-            validarCurso(cursoAtualizado);
-            return repository.save(cursoAtualizado);
-        });
+        if (escritaAtrasada.isEnabled() && Transaction.current().isEmpty()) {
+            return buscarPorId(id).map(cursoExistente ->
+                    escritaAtrasada.submit(mesclar(id, cursoExistente, cursoAtualizado)));
+        }
+        ResultadoAtualizacao<Curso> resultado = atualizarSeInalterado(id, cursoAtualizado, cursoAtualizado.getVersion());
+        if (resultado.conflito()) {
+            logger.warn("Curso {} foi alterado por outra operação desde a versão {}", id, cursoAtualizado.getVersion());
+        }
+        return resultado.atualizado() ? Optional.of(resultado.entidade()) : Optional.empty();
+    }
+
+    private Curso mesclar(Integer id, Curso cursoExistente, Curso cursoAtualizado) {
+        cursoAtualizado.setId(id);
+        cursoAtualizado.setCreatedAt(cursoExistente.getCreatedAt());
+        validarCurso(cursoAtualizado);
+        return cursoAtualizado;
+    }
+
+    public ResultadoAtualizacao<Curso> atualizarSeInalterado(Integer id, Curso cursoAtualizado, Long versaoLida) {
+        cursoAtualizado.setId(id);
+        validarCurso(cursoAtualizado);
+        escritaAtrasada.flushPending(id);
+        if (escritaAtrasada.findPending(id).isPresent()) {
+            return new ResultadoAtualizacao<>(ResultadoAtualizacao.Status.FALHA, cursoAtualizado);
+        }
+        return ResultadoAtualizacao.de(repository.updateIfUnchanged(cursoAtualizado, versaoLida), cursoAtualizado);
+    }
+
+    public ResultadoLote<Curso> criarEmLote(List<Curso> entidades) {
+        return OperacoesEmLote.criar(repository, entidades, this::validarCurso);
+    }
+
+    public ResultadoLote<Curso> atualizarEmLote(List<Curso> entidades) {
+        escritaAtrasada.discard(entidades.stream().map(Curso::getId).filter(Objects::nonNull).toList());
+        return OperacoesEmLote.atualizar(repository, entidades, this::validarCurso, Curso::getId);
+    }
+
+    public ResultadoLote<Integer> removerEmLote(List<Integer> ids) {
+        escritaAtrasada.discard(ids);
+        return OperacoesEmLote.remover(repository, ids);
+    }
+
+    public List<Curso> buscarPorIds(List<Integer> ids) {
+        return repository.findAllById(ids, OperacoesEmLote.TAMANHO_LOTE);
     }
 
     public Optional<Curso> buscarPorId(Integer id) {
-        return repository.findById(id);
+        return escritaAtrasada.findPending(id).or(() -> repository.findById(id));
     }
 
     public List<Curso> listarTodos() {
         return repository.findAll();
     }
 
+    public List<Curso> listarPagina(Integer aposId, int limite) {
+        return repository.findPage(aposId, limite);
+    }
+
+    public List<ResumoCurso> listarResumo(Integer aposId, int limite) {
+        return repository.findPage(aposId, limite, CursoRepository.RESUMO).stream().map(ResumoCurso::de).toList();
+    }
+
+    public Stream<Curso> streamTodos() {
+        return repository.streamAll();
+    }
+
     public boolean remover(Integer id) {
+        escritaAtrasada.discard(List.of(id));
         return repository.deleteById(id);
     }
 
@@ -51,11 +115,45 @@ public class CursoService {
         return repository.searchByNome(termo);
     }
 
+    public List<Curso> pesquisar(String termo, int limite) {
+        return repository.searchByNome(termo, limite);
+    }
+
+    public void inicializarIndiceBusca() {
+        repository.buildSearchIndex();
+    }
+
     public long contarTodos() {
         return repository.count();
     }
 
-    private void validarCurso(Curso curso) {
+    public void inicializarEstatisticas() {
+        repository.buildSummary();
+    }
+
+    public EstatisticasCursos estatisticas() {
+        Map<String, Long> porPlataforma = new TreeMap<>(repository.countByPlataforma());
+        long total = porPlataforma.values().stream().mapToLong(Long::longValue).sum();
+        return new EstatisticasCursos(total, porPlataforma);
+    }
+
+    public <R> R comPrazo(Duration prazo, Supplier<R> operacao) {
+        return Deadline.after(prazo).run(operacao);
+    }
+
+    public <R> R emTransacao(Supplier<R> operacao) {
+        return DatabaseManager.getInstance().inTransaction(transacao -> operacao.get());
+    }
+
+    public <R> R emTransacaoSomenteLeitura(Supplier<R> operacao) {
+        return DatabaseManager.getInstance().inReadOnlyTransaction(transacao -> operacao.get());
+    }
+
+    public List<CacheStats> estatisticasCache() {
+        return repository.getCacheStats();
+    }
+
+    public void validarCurso(Curso curso) {
         if (curso.getNome() == null || curso.getNome().isBlank()) {
             throw new IllegalArgumentException("Nome do curso é obrigatório");
         }
@@ -0,0 +1,5 @@
+package me.pieralini.educationbase.service;
+
+import java.util.Map;
+
+public record EstatisticasCursos(long total, Map<String, Long> porPlataforma) {}
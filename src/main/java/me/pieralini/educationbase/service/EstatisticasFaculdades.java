@@ -0,0 +1,8 @@
+package me.pieralini.educationbase.service;
+
+import me.pieralini.educationbase.model.Faculdade.TipoGraduacao;
+
+import java.util.Map;
+
+public record EstatisticasFaculdades(long total, Map<TipoGraduacao, Long> porTipo,
+                                     double mediaDuracaoSemestres, Map<Integer, Long> distribuicaoDuracao) {}
@@ -1,46 +1,110 @@
 package me.pieralini.educationbase.service;
 
+import me.pieralini.educationbase.cache.CacheStats;
+import me.pieralini.educationbase.config.DatabaseManager;
+import me.pieralini.educationbase.config.Transaction;
 import me.pieralini.educationbase.model.Faculdade;
 import me.pieralini.educationbase.model.Faculdade.*;
+import me.pieralini.educationbase.repository.Deadline;
 import me.pieralini.educationbase.repository.FaculdadeRepository;
+import me.pieralini.educationbase.repository.WriteBehindBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 public class FaculdadeService {
 
     private static final Logger logger = LoggerFactory.getLogger(FaculdadeService.class);
     private final FaculdadeRepository repository;
+    private final WriteBehindBuffer<Faculdade, Integer> escritaAtrasada;
 
     public FaculdadeService() {
         this.repository = FaculdadeRepository.getInstance();
+        this.escritaAtrasada = WriteBehindBuffer.faculdades();
     }
 
-    public Faculdade criar(Faculdade faculdade) {
+    public Optional<Faculdade> criar(Faculdade faculdade) {
         validarFaculdade(faculdade);
         return repository.save(faculdade);
     }
 
     public Optional<Faculdade> atualizar(Integer id, Faculdade faculdadeAtualizada) {
-        return repository.findById(id).map(faculdadeExistente -> {
-            faculdadeAtualizada.setId(id);
-            faculdadeAtualizada.setCreatedAt(faculdadeExistente.getCreatedAt());
-            validarFaculdade(faculdadeAtualizada);
-            return repository.save(faculdadeAtualizada);
-        });
+        if (escritaAtrasada.isEnabled() && Transaction.current().isEmpty()) {
+            return buscarPorId(id).map(faculdadeExistente ->
+                    escritaAtrasada.submit(mesclar(id, faculdadeExistente, faculdadeAtualizada)));
+        }
+        ResultadoAtualizacao<Faculdade> resultado = atualizarSeInalterado(id, faculdadeAtualizada, faculdadeAtualizada.getVersion());
+        if (resultado.conflito()) {
+            logger.warn("Faculdade {} foi alterada por outra operação desde a versão {}", id, faculdadeAtualizada.getVersion());
+        }
+        return resultado.atualizado() ? Optional.of(resultado.entidade()) : Optional.empty();
+    }
+
+    private Faculdade mesclar(Integer id, Faculdade faculdadeExistente, Faculdade faculdadeAtualizada) {
+        faculdadeAtualizada.setId(id);
+        faculdadeAtualizada.setCreatedAt(faculdadeExistente.getCreatedAt());
+        validarFaculdade(faculdadeAtualizada);
+        return faculdadeAtualizada;
+    }
+
+    public ResultadoAtualizacao<Faculdade> atualizarSeInalterado(Integer id, Faculdade faculdadeAtualizada, Long versaoLida) {
+        faculdadeAtualizada.setId(id);
+        validarFaculdade(faculdadeAtualizada);
+        escritaAtrasada.flushPending(id);
+        if (escritaAtrasada.findPending(id).isPresent()) {
+            return new ResultadoAtualizacao<>(ResultadoAtualizacao.Status.FALHA, faculdadeAtualizada);
+        }
+        return ResultadoAtualizacao.de(repository.updateIfUnchanged(faculdadeAtualizada, versaoLida), faculdadeAtualizada);
+    }
+
+    public ResultadoLote<Faculdade> criarEmLote(List<Faculdade> entidades) {
+        return OperacoesEmLote.criar(repository, entidades, this::validarFaculdade);
+    }
+
+    public ResultadoLote<Faculdade> atualizarEmLote(List<Faculdade> entidades) {
+        escritaAtrasada.discard(entidades.stream().map(Faculdade::getId).filter(Objects::nonNull).toList());
+        return OperacoesEmLote.atualizar(repository, entidades, this::validarFaculdade, Faculdade::getId);
+    }
+
+    public ResultadoLote<Integer> removerEmLote(List<Integer> ids) {
+        escritaAtrasada.discard(ids);
+        return OperacoesEmLote.remover(repository, ids);
+    }
+
+    public List<Faculdade> buscarPorIds(List<Integer> ids) {
+        return repository.findAllById(ids, OperacoesEmLote.TAMANHO_LOTE);
     }
 
     public Optional<Faculdade> buscarPorId(Integer id) {
-        return repository.findById(id);
+        return escritaAtrasada.findPending(id).or(() -> repository.findById(id));
     }
 
     public List<Faculdade> listarTodas() {
         return repository.findAll();
     }
 
+    public List<Faculdade> listarPagina(Integer aposId, int limite) {
+        return repository.findPage(aposId, limite);
+    }
+
+    public List<ResumoFaculdade> listarResumo(Integer aposId, int limite) {
+        return repository.findPage(aposId, limite, FaculdadeRepository.RESUMO).stream().map(ResumoFaculdade::de).toList();
+    }
+
+    public Stream<Faculdade> streamTodas() {
+        return repository.streamAll();
+    }
+
     public boolean remover(Integer id) {
+        escritaAtrasada.discard(List.of(id));
         return repository.deleteById(id);
     }
 
@@ -60,11 +124,53 @@ public class FaculdadeService {
         return repository.searchByNomeCurso(termo);
     }
 
+    public List<Faculdade> pesquisar(String termo, int limite) {
+        return repository.searchByNomeCurso(termo, limite);
+    }
+
+    public void inicializarIndiceBusca() {
+        repository.buildSearchIndex();
+    }
+
     public long contarTodas() {
         return repository.count();
     }
 
-    private void validarFaculdade(Faculdade faculdade) {
+    public void inicializarEstatisticas() {
+        repository.buildSummary();
+    }
+
+    public EstatisticasFaculdades estatisticas() {
+        Map<TipoGraduacao, Long> porTipo = repository.countByTipoGraduacao();
+        Map<Integer, Long> distribuicao = new TreeMap<>(repository.countByDuracaoSemestres());
+        long total = porTipo.values().stream().mapToLong(Long::longValue).sum();
+        long comDuracao = 0;
+        long semestres = 0;
+        for (Map.Entry<Integer, Long> entry : distribuicao.entrySet()) {
+            comDuracao += entry.getValue();
+            semestres += entry.getKey() * entry.getValue();
+        }
+        double media = comDuracao > 0 ? (double) semestres / comDuracao : 0.0;
+        return new EstatisticasFaculdades(total, porTipo, media, distribuicao);
+    }
+
+    public <R> R comPrazo(Duration prazo, Supplier<R> operacao) {
+        return Deadline.after(prazo).run(operacao);
+    }
+
+    public <R> R emTransacao(Supplier<R> operacao) {
+        return DatabaseManager.getInstance().inTransaction(transacao -> operacao.get());
+    }
+
+    public <R> R emTransacaoSomenteLeitura(Supplier<R> operacao) {
+        return DatabaseManager.getInstance().inReadOnlyTransaction(transacao -> operacao.get());
+    }
+
+    public List<CacheStats> estatisticasCache() {
+        return repository.getCacheStats();
+    }
+
+    public void validarFaculdade(Faculdade faculdade) {
         if (faculdade.getNomeCurso() == null || faculdade.getNomeCurso().isBlank()) {
             throw new IllegalArgumentException("Nome do curso é obrigatório");
         }
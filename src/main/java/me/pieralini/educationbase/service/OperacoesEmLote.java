@@ -0,0 +1,91 @@
+package me.pieralini.educationbase.service;
+
+import me.pieralini.educationbase.repository.BaseRepository;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+final class OperacoesEmLote {
+
+    static final int TAMANHO_LOTE = 500;
+
+    private OperacoesEmLote() {}
+
+    static <T> ResultadoLote<T> criar(BaseRepository<T, Integer> repository, List<T> entidades, Consumer<T> validador) {
+        ResultadoLote.Item<T>[] itens = novoArray(entidades.size());
+        List<Integer> indicesValidos = validar(entidades, validador, itens);
+
+        List<T> validas = indicesValidos.stream().map(entidades::get).toList();
+        int inseridas = repository.insertAll(validas, TAMANHO_LOTE);
+        for (int i = 0; i < indicesValidos.size(); i++) {
+            int indice = indicesValidos.get(i);
+            itens[indice] = i < inseridas
+                    ? ResultadoLote.Item.ok(indice, validas.get(i))
+                    : ResultadoLote.Item.falha(indice, validas.get(i), "Erro ao inserir registro");
+        }
+        return new ResultadoLote<>(Arrays.asList(itens));
+    }
+
+    static <T> ResultadoLote<T> atualizar(BaseRepository<T, Integer> repository, List<T> entidades,
+                                          Consumer<T> validador, Function<T, Integer> idDe) {
+        ResultadoLote.Item<T>[] itens = novoArray(entidades.size());
+        List<Integer> indicesValidos = validar(entidades, entidade -> {
+            if (idDe.apply(entidade) == null) {
+                throw new IllegalArgumentException("ID é obrigatório para atualização");
+            }
+            validador.accept(entidade);
+        }, itens);
+
+        List<T> validas = indicesValidos.stream().map(entidades::get).toList();
+        int[] afetadas = repository.updateAll(validas, TAMANHO_LOTE);
+        for (int i = 0; i < indicesValidos.size(); i++) {
+            int indice = indicesValidos.get(i);
+            if (afetadas[i] == Statement.EXECUTE_FAILED) {
+                itens[indice] = ResultadoLote.Item.falha(indice, validas.get(i), "Erro ao atualizar registro");
+            } else if (afetadas[i] > 0 || afetadas[i] == Statement.SUCCESS_NO_INFO) {
+                itens[indice] = ResultadoLote.Item.ok(indice, validas.get(i));
+            } else {
+                itens[indice] = ResultadoLote.Item.falha(indice, validas.get(i), "Registro não encontrado");
+            }
+        }
+        return new ResultadoLote<>(Arrays.asList(itens));
+    }
+
+    static ResultadoLote<Integer> remover(BaseRepository<?, Integer> repository, List<Integer> ids) {
+        int[] afetados = repository.deleteAll(ids, TAMANHO_LOTE);
+        List<ResultadoLote.Item<Integer>> itens = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Integer id = ids.get(i);
+            if (afetados[i] == Statement.EXECUTE_FAILED) {
+                itens.add(ResultadoLote.Item.falha(i, id, "Erro ao remover registro"));
+            } else if (afetados[i] > 0) {
+                itens.add(ResultadoLote.Item.ok(i, id));
+            } else {
+                itens.add(ResultadoLote.Item.falha(i, id, "Registro não encontrado"));
+            }
+        }
+        return new ResultadoLote<>(itens);
+    }
+
+    private static <T> List<Integer> validar(List<T> entidades, Consumer<T> validador, ResultadoLote.Item<T>[] itens) {
+        List<Integer> indicesValidos = new ArrayList<>(entidades.size());
+        for (int i = 0; i < entidades.size(); i++) {
+            try {
+                validador.accept(entidades.get(i));
+                indicesValidos.add(i);
+            } catch (IllegalArgumentException e) {
+                itens[i] = ResultadoLote.Item.falha(i, entidades.get(i), e.getMessage());
+            }
+        }
+        return indicesValidos;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ResultadoLote.Item<T>[] novoArray(int tamanho) {
+        return (ResultadoLote.Item<T>[]) new ResultadoLote.Item<?>[tamanho];
+    }
+}
@@ -0,0 +1,26 @@
+package me.pieralini.educationbase.service;
+
+import me.pieralini.educationbase.repository.UpdateOutcome;
+
+public record ResultadoAtualizacao<T>(Status status, T entidade) {
+
+    public enum Status { ATUALIZADO, CONFLITO, NAO_ENCONTRADO, FALHA }
+
+    public boolean atualizado() {
+        return status == Status.ATUALIZADO;
+    }
+
+    public boolean conflito() {
+        return status == Status.CONFLITO;
+    }
+
+    static <T> ResultadoAtualizacao<T> de(UpdateOutcome outcome, T entidade) {
+        Status status = switch (outcome) {
+            case UPDATED -> Status.ATUALIZADO;
+            case CONFLICT -> Status.CONFLITO;
+            case NOT_FOUND -> Status.NAO_ENCONTRADO;
+            case FAILED -> Status.FALHA;
+        };
+        return new ResultadoAtualizacao<>(status, entidade);
+    }
+}
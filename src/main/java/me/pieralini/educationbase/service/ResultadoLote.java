@@ -0,0 +1,25 @@
+package me.pieralini.educationbase.service;
+
+import java.util.List;
+
+public record ResultadoLote<T>(List<Item<T>> itens) {
+
+    public List<Item<T>> sucessos() {
+        return itens.stream().filter(Item::sucesso).toList();
+    }
+
+    public List<Item<T>> falhas() {
+        return itens.stream().filter(item -> !item.sucesso()).toList();
+    }
+
+    public record Item<T>(int indice, T valor, boolean sucesso, String erro) {
+
+        static <T> Item<T> ok(int indice, T valor) {
+            return new Item<>(indice, valor, true, null);
+        }
+
+        static <T> Item<T> falha(int indice, T valor, String erro) {
+            return new Item<>(indice, valor, false, erro);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package me.pieralini.educationbase.service;
+
+import me.pieralini.educationbase.model.Curso;
+
+public record ResumoCurso(Integer id, String nome, String plataforma) {
+
+    static ResumoCurso de(Curso curso) {
+        return new ResumoCurso(curso.getId(), curso.getNome(), curso.getPlataforma());
+    }
+}
@@ -0,0 +1,11 @@
+package me.pieralini.educationbase.service;
+
+import me.pieralini.educationbase.model.Faculdade;
+import me.pieralini.educationbase.model.Faculdade.TipoGraduacao;
+
+public record ResumoFaculdade(Integer id, String nomeCurso, TipoGraduacao tipoGraduacao) {
+
+    static ResumoFaculdade de(Faculdade faculdade) {
+        return new ResumoFaculdade(faculdade.getId(), faculdade.getNomeCurso(), faculdade.getTipoGraduacao());
+    }
+}
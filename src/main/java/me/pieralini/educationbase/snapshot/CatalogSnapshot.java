@@ -0,0 +1,210 @@
+package me.pieralini.educationbase.snapshot;
+
+import me.pieralini.educationbase.config.ConfigManager;
+import me.pieralini.educationbase.repository.CursoRepository;
+import me.pieralini.educationbase.repository.FaculdadeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class CatalogSnapshot {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogSnapshot.class);
+    private static final int MAGIC = 0x45425348;
+    private static final int FORMAT_VERSION = 3;
+    private static final int MARK_LENGTH = 3;
+    private static final int HEADER_SIZE = 4 * Integer.BYTES + 2 * MARK_LENGTH * Long.BYTES;
+    private static CatalogSnapshot instance;
+
+    private final ConfigManager.SnapshotConfig config;
+    private final CursoRepository cursoRepository;
+    private final FaculdadeRepository faculdadeRepository;
+    private ScheduledExecutorService scheduler;
+    private long[] cursosMark;
+    private long[] faculdadesMark;
+
+    private CatalogSnapshot() {
+        this.config = ConfigManager.getInstance().getSnapshotConfig();
+        this.cursoRepository = CursoRepository.getInstance();
+        this.faculdadeRepository = FaculdadeRepository.getInstance();
+    }
+
+    public static synchronized CatalogSnapshot getInstance() {
+        if (instance == null) {
+            instance = new CatalogSnapshot();
+        }
+        return instance;
+    }
+
+    public boolean isEnabled() {
+        return config.enabled();
+    }
+
+    public synchronized boolean load() {
+        if (!config.enabled()) {
+            return false;
+        }
+        Path path = Path.of(config.path());
+        if (!Files.isRegularFile(path)) {
+            logger.info("Snapshot do catálogo não encontrado em {}", path);
+            return false;
+        }
+        long start = System.nanoTime();
+        long cursosVersion = cursoRepository.getColumnarVersion();
+        long faculdadesVersion = faculdadeRepository.getColumnarVersion();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (mapped.limit() < HEADER_SIZE || mapped.getInt(0) != MAGIC || mapped.getInt(4) != FORMAT_VERSION) {
+                throw new IllegalStateException("formato desconhecido");
+            }
+            int cursosLength = mapped.getInt(8);
+            int faculdadesLength = mapped.getInt(12);
+            long[] storedCursosMark = readMark(mapped, 16);
+            long[] storedFaculdadesMark = readMark(mapped, 16 + MARK_LENGTH * Long.BYTES);
+            if (!Arrays.equals(storedCursosMark, cursoRepository.findHighWaterMark())
+                    || !Arrays.equals(storedFaculdadesMark, faculdadeRepository.findHighWaterMark())) {
+                logger.info("Snapshot do catálogo em {} não corresponde ao banco, será reconstruído", path);
+                return false;
+            }
+            ColumnarCursos cursos = ColumnarCursos.of(mapped.slice(HEADER_SIZE, cursosLength));
+            ColumnarFaculdades faculdades = ColumnarFaculdades.of(mapped.slice(HEADER_SIZE + cursosLength, faculdadesLength));
+            boolean installed = cursoRepository.useColumnar(cursos, cursosVersion)
+                    & faculdadeRepository.useColumnar(faculdades, faculdadesVersion);
+            cursosMark = storedCursosMark;
+            faculdadesMark = storedFaculdadesMark;
+            logger.info("Snapshot do catálogo mapeado de {}: {} cursos, {} faculdades em {} ms",
+                    path, cursos.size(), faculdades.size(), (System.nanoTime() - start) / 1_000_000);
+            return installed;
+        } catch (IOException | SQLException | RuntimeException e) {
+            logger.error("Erro ao carregar snapshot do catálogo: {}", e.getMessage());
+            return false;
+        } finally {
+            discard(path);
+        }
+    }
+
+    public synchronized void start() {
+        if (!config.enabled() || scheduler != null) {
+            return;
+        }
+        refreshIfStale();
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "catalog-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::refreshIfStale, config.refreshSeconds(), config.refreshSeconds(),
+                TimeUnit.SECONDS);
+    }
+
+    public synchronized void refreshIfStale() {
+        try {
+            long[] mark = cursoRepository.findHighWaterMark();
+            if (cursoRepository.getColumnar() == null || !Arrays.equals(mark, cursosMark)) {
+                cursosMark = null;
+                if (cursoRepository.buildColumnar()) {
+                    cursosMark = mark;
+                } else {
+                    cursoRepository.useColumnar(null, cursoRepository.getColumnarVersion());
+                }
+            }
+            mark = faculdadeRepository.findHighWaterMark();
+            if (faculdadeRepository.getColumnar() == null || !Arrays.equals(mark, faculdadesMark)) {
+                faculdadesMark = null;
+                if (faculdadeRepository.buildColumnar()) {
+                    faculdadesMark = mark;
+                } else {
+                    faculdadeRepository.useColumnar(null, faculdadeRepository.getColumnarVersion());
+                }
+            }
+        } catch (SQLException | RuntimeException e) {
+            logger.error("Erro ao atualizar snapshot do catálogo: {}", e.getMessage());
+            cursosMark = null;
+            faculdadesMark = null;
+            cursoRepository.useColumnar(null, cursoRepository.getColumnarVersion());
+            faculdadeRepository.useColumnar(null, faculdadeRepository.getColumnarVersion());
+        }
+    }
+
+    public synchronized boolean persist() {
+        refreshIfStale();
+        ColumnarCursos cursos = cursoRepository.getColumnar();
+        ColumnarFaculdades faculdades = faculdadeRepository.getColumnar();
+        if (cursos == null || faculdades == null || cursosMark == null || faculdadesMark == null) {
+            logger.warn("Snapshot do catálogo desatualizado, arquivo não gravado");
+            return false;
+        }
+        Path path = Path.of(config.path());
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        ByteBuffer cursosBuffer = cursos.buffer();
+        ByteBuffer faculdadesBuffer = faculdades.buffer();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putInt(cursosBuffer.remaining())
+                .putInt(faculdadesBuffer.remaining());
+        Arrays.stream(cursosMark).forEach(header::putLong);
+        Arrays.stream(faculdadesMark).forEach(header::putLong);
+        header.flip();
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer[] sections = {header, cursosBuffer, faculdadesBuffer};
+                while (header.hasRemaining() || cursosBuffer.hasRemaining() || faculdadesBuffer.hasRemaining()) {
+                    channel.write(sections);
+                }
+                channel.force(true);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.info("Snapshot do catálogo gravado em {}: {} cursos, {} faculdades",
+                    path, cursos.size(), faculdades.size());
+            return true;
+        } catch (IOException e) {
+            logger.error("Erro ao gravar snapshot do catálogo: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    public synchronized void close() {
+        if (!config.enabled()) {
+            return;
+        }
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        persist();
+    }
+
+    private static long[] readMark(ByteBuffer buffer, int offset) {
+        long[] mark = new long[MARK_LENGTH];
+        for (int i = 0; i < MARK_LENGTH; i++) {
+            mark[i] = buffer.getLong(offset + i * Long.BYTES);
+        }
+        return mark;
+    }
+
+    private void discard(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("Não foi possível remover o snapshot do catálogo {}: {}", path, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package me.pieralini.educationbase.snapshot;
+
+import me.pieralini.educationbase.model.Curso;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public final class ColumnarCursos {
+
+    private static final int MAGIC = 0x45424355;
+
+    private final ByteBuffer buffer;
+    private final int size;
+    private final List<String> plataformas;
+    private final Map<String, List<Short>> codigos;
+    private final LongBuffer createdAt;
+    private final LongBuffer updatedAt;
+    private final LongBuffer versions;
+    private final IntBuffer ids;
+    private final ShortBuffer plataforma;
+    private final TextColumn nomes;
+    private final TextColumn descricoes;
+
+    private ColumnarCursos(ByteBuffer buffer) {
+        this.buffer = buffer;
+        ByteBuffer in = buffer.duplicate();
+        if (in.remaining() < 2 * Integer.BYTES || in.getInt() != MAGIC) {
+            throw new IllegalStateException("Snapshot de cursos inválido");
+        }
+        this.size = in.getInt();
+        this.plataformas = Columns.dictionary(in);
+        this.codigos = new HashMap<>();
+        for (int i = 0; i < plataformas.size(); i++) {
+            codigos.computeIfAbsent(Columns.collationKey(plataformas.get(i)), key -> new ArrayList<>()).add((short) i);
+        }
+        this.createdAt = Columns.longs(in, size);
+        this.updatedAt = Columns.longs(in, size);
+        this.versions = Columns.longs(in, size);
+        this.ids = Columns.ints(in, size);
+        this.plataforma = Columns.shorts(in, size);
+        this.nomes = TextColumn.read(in, size);
+        this.descricoes = TextColumn.read(in, size);
+    }
+
+    public static ColumnarCursos of(ByteBuffer buffer) {
+        return new ColumnarCursos(buffer);
+    }
+
+    public static ColumnarCursos build(List<Curso> registros) {
+        List<Curso> cursos = registros.stream().sorted(Comparator.comparing(Curso::getId)).toList();
+        int rows = cursos.size();
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        long[] created = new long[rows];
+        long[] updated = new long[rows];
+        long[] versionColumn = new long[rows];
+        int[] idColumn = new int[rows];
+        short[] codes = new short[rows];
+        String[] nomeColumn = new String[rows];
+        String[] descricaoColumn = new String[rows];
+        for (int i = 0; i < rows; i++) {
+            Curso curso = cursos.get(i);
+            created[i] = Columns.toMicros(curso.getCreatedAt());
+            updated[i] = Columns.toMicros(curso.getUpdatedAt());
+            versionColumn[i] = curso.getVersion() != null ? curso.getVersion() : Columns.NULL_LONG;
+            idColumn[i] = curso.getId();
+            int code = dictionary.computeIfAbsent(curso.getPlataforma(), key -> dictionary.size());
+            if (code > Short.MAX_VALUE) {
+                throw new IllegalStateException("Plataformas distintas demais para o snapshot: " + code);
+            }
+            codes[i] = (short) code;
+            nomeColumn[i] = curso.getNome();
+            descricaoColumn[i] = curso.getDescricao();
+        }
+
+        List<String> plataformas = new ArrayList<>(dictionary.keySet());
+        TextColumn.Encoder nomes = new TextColumn.Encoder(nomeColumn);
+        TextColumn.Encoder descricoes = new TextColumn.Encoder(descricaoColumn);
+        int length = 2 * Integer.BYTES + Columns.dictionarySize(plataformas)
+                + rows * (3 * Long.BYTES + Integer.BYTES + Short.BYTES)
+                + nomes.size() + descricoes.size();
+
+        ByteBuffer out = ByteBuffer.allocateDirect(length);
+        out.putInt(MAGIC).putInt(rows);
+        Columns.putDictionary(out, plataformas);
+        out.asLongBuffer().put(created);
+        out.position(out.position() + rows * Long.BYTES);
+        out.asLongBuffer().put(updated);
+        out.position(out.position() + rows * Long.BYTES);
+        out.asLongBuffer().put(versionColumn);
+        out.position(out.position() + rows * Long.BYTES);
+        out.asIntBuffer().put(idColumn);
+        out.position(out.position() + rows * Integer.BYTES);
+        out.asShortBuffer().put(codes);
+        out.position(out.position() + rows * Short.BYTES);
+        nomes.writeTo(out);
+        descricoes.writeTo(out);
+        return new ColumnarCursos(out.flip().asReadOnlyBuffer());
+    }
+
+    public ByteBuffer buffer() {
+        return buffer.duplicate();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Optional<Curso> findById(int id) {
+        int row = Columns.binarySearch(ids, id);
+        return row < 0 ? Optional.empty() : Optional.of(get(row));
+    }
+
+    public List<Curso> findAll() {
+        List<Curso> cursos = new ArrayList<>(size);
+        for (int row = 0; row < size; row++) {
+            cursos.add(get(row));
+        }
+        return cursos;
+    }
+
+    public List<Curso> findByPlataforma(String nome) {
+        List<Short> codes = codigos.getOrDefault(Columns.collationKey(nome), List.of());
+        List<Curso> cursos = new ArrayList<>();
+        if (codes.isEmpty()) {
+            return cursos;
+        }
+        for (int row = 0; row < size; row++) {
+            if (codes.contains(plataforma.get(row))) {
+                cursos.add(get(row));
+            }
+        }
+        return cursos;
+    }
+
+    private Curso get(int row) {
+        long version = versions.get(row);
+        return new Curso(
+                ids.get(row),
+                nomes.get(row),
+                descricoes.get(row),
+                plataformas.get(plataforma.get(row)),
+                Columns.fromMicros(createdAt.get(row)),
+                Columns.fromMicros(updatedAt.get(row)),
+                version != Columns.NULL_LONG ? version : null);
+    }
+}
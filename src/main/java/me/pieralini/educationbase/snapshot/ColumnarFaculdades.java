@@ -0,0 +1,146 @@
+package me.pieralini.educationbase.snapshot;
+
+import me.pieralini.educationbase.model.Faculdade;
+import me.pieralini.educationbase.model.Faculdade.TipoGraduacao;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+public final class ColumnarFaculdades {
+
+    private static final int MAGIC = 0x45424641;
+    private static final byte NULL_TIPO = -1;
+
+    private final ByteBuffer buffer;
+    private final int size;
+    private final TipoGraduacao[] tipos;
+    private final LongBuffer createdAt;
+    private final LongBuffer updatedAt;
+    private final LongBuffer versions;
+    private final IntBuffer ids;
+    private final IntBuffer duracao;
+    private final ByteBuffer tipo;
+    private final TextColumn nomes;
+
+    private ColumnarFaculdades(ByteBuffer buffer) {
+        this.buffer = buffer;
+        ByteBuffer in = buffer.duplicate();
+        if (in.remaining() < 2 * Integer.BYTES || in.getInt() != MAGIC) {
+            throw new IllegalStateException("Snapshot de faculdades inválido");
+        }
+        this.size = in.getInt();
+        this.tipos = Columns.dictionary(in).stream().map(TipoGraduacao::valueOf).toArray(TipoGraduacao[]::new);
+        this.createdAt = Columns.longs(in, size);
+        this.updatedAt = Columns.longs(in, size);
+        this.versions = Columns.longs(in, size);
+        this.ids = Columns.ints(in, size);
+        this.duracao = Columns.ints(in, size);
+        this.tipo = in.slice(in.position(), size);
+        in.position(in.position() + size);
+        this.nomes = TextColumn.read(in, size);
+    }
+
+    public static ColumnarFaculdades of(ByteBuffer buffer) {
+        return new ColumnarFaculdades(buffer);
+    }
+
+    public static ColumnarFaculdades build(List<Faculdade> registros) {
+        List<Faculdade> faculdades = registros.stream().sorted(Comparator.comparing(Faculdade::getId)).toList();
+        int rows = faculdades.size();
+        long[] created = new long[rows];
+        long[] updated = new long[rows];
+        long[] versionColumn = new long[rows];
+        int[] idColumn = new int[rows];
+        int[] duracaoColumn = new int[rows];
+        byte[] codes = new byte[rows];
+        String[] nomeColumn = new String[rows];
+        for (int i = 0; i < rows; i++) {
+            Faculdade faculdade = faculdades.get(i);
+            created[i] = Columns.toMicros(faculdade.getCreatedAt());
+            updated[i] = Columns.toMicros(faculdade.getUpdatedAt());
+            versionColumn[i] = faculdade.getVersion() != null ? faculdade.getVersion() : Columns.NULL_LONG;
+            idColumn[i] = faculdade.getId();
+            duracaoColumn[i] = faculdade.getDuracaoSemestres() != null ? faculdade.getDuracaoSemestres() : Columns.NULL_INT;
+            codes[i] = faculdade.getTipoGraduacao() != null ? (byte) faculdade.getTipoGraduacao().ordinal() : NULL_TIPO;
+            nomeColumn[i] = faculdade.getNomeCurso();
+        }
+
+        List<String> tipos = Arrays.stream(TipoGraduacao.values()).map(Enum::name).toList();
+        TextColumn.Encoder nomes = new TextColumn.Encoder(nomeColumn);
+        int length = 2 * Integer.BYTES + Columns.dictionarySize(tipos)
+                + rows * (3 * Long.BYTES + 2 * Integer.BYTES + Byte.BYTES)
+                + nomes.size();
+
+        ByteBuffer out = ByteBuffer.allocateDirect(length);
+        out.putInt(MAGIC).putInt(rows);
+        Columns.putDictionary(out, tipos);
+        out.asLongBuffer().put(created);
+        out.position(out.position() + rows * Long.BYTES);
+        out.asLongBuffer().put(updated);
+        out.position(out.position() + rows * Long.BYTES);
+        out.asLongBuffer().put(versionColumn);
+        out.position(out.position() + rows * Long.BYTES);
+        out.asIntBuffer().put(idColumn);
+        out.position(out.position() + rows * Integer.BYTES);
+        out.asIntBuffer().put(duracaoColumn);
+        out.position(out.position() + rows * Integer.BYTES);
+        out.put(codes);
+        nomes.writeTo(out);
+        return new ColumnarFaculdades(out.flip().asReadOnlyBuffer());
+    }
+
+    public ByteBuffer buffer() {
+        return buffer.duplicate();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Optional<Faculdade> findById(int id) {
+        int row = Columns.binarySearch(ids, id);
+        return row < 0 ? Optional.empty() : Optional.of(get(row));
+    }
+
+    public List<Faculdade> findAll() {
+        List<Faculdade> faculdades = new ArrayList<>(size);
+        for (int row = 0; row < size; row++) {
+            faculdades.add(get(row));
+        }
+        return faculdades;
+    }
+
+    public List<Faculdade> findByTipoGraduacao(TipoGraduacao tipoGraduacao) {
+        int code = Arrays.asList(tipos).indexOf(tipoGraduacao);
+        List<Faculdade> faculdades = new ArrayList<>();
+        if (code < 0) {
+            return faculdades;
+        }
+        for (int row = 0; row < size; row++) {
+            if (tipo.get(row) == code) {
+                faculdades.add(get(row));
+            }
+        }
+        return faculdades;
+    }
+
+    private Faculdade get(int row) {
+        byte code = tipo.get(row);
+        int semestres = duracao.get(row);
+        long version = versions.get(row);
+        return new Faculdade(
+                ids.get(row),
+                nomes.get(row),
+                code != NULL_TIPO ? tipos[code] : null,
+                semestres != Columns.NULL_INT ? semestres : null,
+                Columns.fromMicros(createdAt.get(row)),
+                Columns.fromMicros(updatedAt.get(row)),
+                version != Columns.NULL_LONG ? version : null);
+    }
+}
@@ -0,0 +1,111 @@
+package me.pieralini.educationbase.snapshot;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+final class Columns {
+
+    static final long NULL_TIMESTAMP = Long.MIN_VALUE;
+    static final int NULL_INT = Integer.MIN_VALUE;
+    static final long NULL_LONG = Long.MIN_VALUE;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern TRAILING_SPACES = Pattern.compile(" +$");
+
+    private Columns() {}
+
+    static IntBuffer ints(ByteBuffer in, int count) {
+        IntBuffer view = in.slice(in.position(), count * Integer.BYTES).asIntBuffer();
+        in.position(in.position() + count * Integer.BYTES);
+        return view;
+    }
+
+    static LongBuffer longs(ByteBuffer in, int count) {
+        LongBuffer view = in.slice(in.position(), count * Long.BYTES).asLongBuffer();
+        in.position(in.position() + count * Long.BYTES);
+        return view;
+    }
+
+    static ShortBuffer shorts(ByteBuffer in, int count) {
+        ShortBuffer view = in.slice(in.position(), count * Short.BYTES).asShortBuffer();
+        in.position(in.position() + count * Short.BYTES);
+        return view;
+    }
+
+    static int dictionarySize(List<String> values) {
+        int size = Integer.BYTES;
+        for (String value : values) {
+            size += Integer.BYTES + value.getBytes(StandardCharsets.UTF_8).length;
+        }
+        return size;
+    }
+
+    static void putDictionary(ByteBuffer out, List<String> values) {
+        out.putInt(values.size());
+        for (String value : values) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.putInt(bytes.length);
+            out.put(bytes);
+        }
+    }
+
+    static List<String> dictionary(ByteBuffer in) {
+        int count = in.getInt();
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            byte[] bytes = new byte[in.getInt()];
+            in.get(bytes);
+            values.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+        return List.copyOf(values);
+    }
+
+    static long toMicros(LocalDateTime value) {
+        if (value == null) {
+            return NULL_TIMESTAMP;
+        }
+        return value.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + value.getNano() / 1_000;
+    }
+
+    static LocalDateTime fromMicros(long micros) {
+        if (micros == NULL_TIMESTAMP) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    static int binarySearch(IntBuffer sorted, int key) {
+        int low = 0;
+        int high = sorted.limit() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int value = sorted.get(mid);
+            if (value < key) {
+                low = mid + 1;
+            } else if (value > key) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    static String collationKey(String value) {
+        if (value == null) {
+            return null;
+        }
+        String stripped = DIACRITICS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("");
+        return TRAILING_SPACES.matcher(stripped).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,84 @@
+package me.pieralini.educationbase.snapshot;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.charset.StandardCharsets;
+
+final class TextColumn {
+
+    private final IntBuffer offsets;
+    private final LongBuffer nulls;
+    private final ByteBuffer data;
+
+    private TextColumn(IntBuffer offsets, LongBuffer nulls, ByteBuffer data) {
+        this.offsets = offsets;
+        this.nulls = nulls;
+        this.data = data;
+    }
+
+    static TextColumn read(ByteBuffer in, int rows) {
+        IntBuffer offsets = Columns.ints(in, rows + 1);
+        LongBuffer nulls = Columns.longs(in, words(rows));
+        int length = offsets.get(rows);
+        ByteBuffer data = in.slice(in.position(), length);
+        in.position(in.position() + length);
+        return new TextColumn(offsets, nulls, data);
+    }
+
+    String get(int row) {
+        if ((nulls.get(row >>> 6) & (1L << row)) != 0) {
+            return null;
+        }
+        int start = offsets.get(row);
+        byte[] bytes = new byte[offsets.get(row + 1) - start];
+        data.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int words(int rows) {
+        return (rows + 63) >>> 6;
+    }
+
+    static final class Encoder {
+
+        private final byte[][] values;
+        private final long[] nulls;
+        private final int length;
+
+        Encoder(String[] values) {
+            this.values = new byte[values.length][];
+            this.nulls = new long[words(values.length)];
+            int total = 0;
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] == null) {
+                    this.values[i] = new byte[0];
+                    nulls[i >>> 6] |= 1L << i;
+                } else {
+                    this.values[i] = values[i].getBytes(StandardCharsets.UTF_8);
+                }
+                total += this.values[i].length;
+            }
+            this.length = total;
+        }
+
+        int size() {
+            return (values.length + 1) * Integer.BYTES + nulls.length * Long.BYTES + length;
+        }
+
+        void writeTo(ByteBuffer out) {
+            int offset = 0;
+            for (byte[] value : values) {
+                out.putInt(offset);
+                offset += value.length;
+            }
+            out.putInt(offset);
+            for (long word : nulls) {
+                out.putLong(word);
+            }
+            for (byte[] value : values) {
+                out.put(value);
+            }
+        }
+    }
+}
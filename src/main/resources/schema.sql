@@ -8,6 +8,7 @@ CREATE TABLE IF NOT EXISTS cursos (
     plataforma VARCHAR(100) NOT NULL,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0,
     INDEX idx_plataforma (plataforma)
 );
 
@@ -18,5 +19,13 @@ CREATE TABLE IF NOT EXISTS faculdades (
     duracao_semestres INT,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0,
     INDEX idx_tipo_graduacao (tipo_graduacao)
 );
+
+CREATE TABLE IF NOT EXISTS data_fingerprints (
+    resource VARCHAR(255) PRIMARY KEY,
+    sha256 CHAR(64) NOT NULL,
+    size_bytes BIGINT NOT NULL,
+    loaded_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
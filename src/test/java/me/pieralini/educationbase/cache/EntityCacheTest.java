@@ -0,0 +1,103 @@
+package me.pieralini.educationbase.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class EntityCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    @Test
+    void passesThroughWhenDisabled() {
+        EntityCache<Integer, String> cache = new EntityCache<>("teste", 0, TTL);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.put(1, "um");
+        assertEquals("um1", cache.getOrLoad(1, () -> "um" + loads.incrementAndGet()));
+        assertEquals("um2", cache.getOrLoad(1, () -> "um" + loads.incrementAndGet()));
+
+        assertFalse(cache.isEnabled());
+        assertNull(cache.get(1));
+        assertEquals(2, loads.get());
+        assertEquals(new CacheStats("teste", 0, 0, 0, 0), cache.stats());
+    }
+
+    @Test
+    void loadsOnceAndCountsHitsAndMisses() {
+        EntityCache<Integer, String> cache = new EntityCache<>("teste", 10, TTL);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("um", cache.getOrLoad(1, () -> { loads.incrementAndGet(); return "um"; }));
+        assertEquals("um", cache.getOrLoad(1, () -> { loads.incrementAndGet(); return "um"; }));
+
+        assertEquals(1, loads.get());
+        assertEquals(new CacheStats("teste", 1, 1, 0, 1), cache.stats());
+    }
+
+    @Test
+    void doesNotCacheMissingValues() {
+        EntityCache<Integer, String> cache = new EntityCache<>("teste", 10, TTL);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.getOrLoad(1, () -> { loads.incrementAndGet(); return null; });
+        cache.getOrLoad(1, () -> { loads.incrementAndGet(); return null; });
+
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.stats().size());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntry() {
+        EntityCache<Integer, String> cache = new EntityCache<>("teste", 2, TTL);
+        cache.put(1, "um");
+        cache.put(2, "dois");
+        cache.get(1);
+
+        cache.put(3, "tres");
+
+        assertEquals("um", cache.get(1));
+        assertNull(cache.get(2));
+        assertEquals("tres", cache.get(3));
+        assertEquals(1, cache.stats().evictions());
+    }
+
+    @Test
+    void expiresEntriesAfterTtl() {
+        EntityCache<Integer, String> cache = new EntityCache<>("teste", 10, Duration.ZERO);
+        cache.put(1, "um");
+
+        assertNull(cache.get(1));
+        assertEquals(new CacheStats("teste", 0, 1, 1, 0), cache.stats());
+    }
+
+    @Test
+    void invalidateDuringLoadKeepsStaleValueOut() {
+        EntityCache<Integer, String> cache = new EntityCache<>("teste", 10, TTL);
+
+        String loaded = cache.getOrLoad(1, () -> {
+            cache.invalidate(1);
+            return "antigo";
+        });
+
+        assertEquals("antigo", loaded);
+        assertNull(cache.get(1));
+    }
+
+    @Test
+    void invalidateAllClearsEntries() {
+        EntityCache<Integer, String> cache = new EntityCache<>("teste", 10, TTL);
+        cache.put(1, "um");
+        cache.put(2, "dois");
+
+        cache.invalidateAll();
+
+        assertEquals(0, cache.stats().size());
+        assertNull(cache.get(1));
+    }
+}
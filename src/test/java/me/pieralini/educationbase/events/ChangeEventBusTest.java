@@ -0,0 +1,168 @@
+package me.pieralini.educationbase.events;
+
+import me.pieralini.educationbase.config.ConfigManager.ChangeEventsConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChangeEventBusTest {
+
+    private final List<Subscription> subscriptions = new ArrayList<>();
+
+    @AfterEach
+    void closeSubscriptions() {
+        subscriptions.forEach(Subscription::close);
+    }
+
+    @Test
+    void roundsCapacityUpToPowerOfTwo() {
+        assertEquals(64, bus(64, 16).capacity());
+        assertEquals(128, bus(100, 16).capacity());
+        assertEquals(2, bus(2, 16).capacity());
+        assertEquals(2, bus(1, 16).capacity());
+    }
+
+    @Test
+    void ignoresPublishWhenDisabled() {
+        ChangeEventBus bus = new ChangeEventBus(new ChangeEventsConfig(false, 8, 4));
+
+        bus.publish(ChangeEvent.Operation.INSERT, "cursos", 1, "curso");
+
+        assertEquals(-1, bus.lastSequence());
+        assertNull(bus.slot(0));
+    }
+
+    @Test
+    void overwritesOldestSlotsWhenFull() {
+        ChangeEventBus bus = bus(8, 4);
+        publish(bus, 20);
+
+        assertEquals(19, bus.lastSequence());
+        assertEquals(12, bus.oldestSequence());
+        for (long sequence = 12; sequence <= 19; sequence++) {
+            assertEquals(sequence, bus.slot(sequence).sequence());
+        }
+    }
+
+    @Test
+    void deliversEventsInOrderInBoundedBatches() throws InterruptedException {
+        ChangeEventBus bus = bus(64, 4);
+        Recorder recorder = new Recorder(30);
+        subscriptions.add(bus.subscribe("ordem", recorder));
+
+        publish(bus, 30);
+
+        assertTrue(recorder.await());
+        assertEquals(LongStream.range(0, 30).boxed().toList(), recorder.sequences());
+        assertTrue(recorder.batchSizes.stream().allMatch(size -> size >= 1 && size <= 4), recorder.batchSizes::toString);
+    }
+
+    @Test
+    void replaysRetainedEventsFromRequestedSequence() throws InterruptedException {
+        ChangeEventBus bus = bus(16, 8);
+        publish(bus, 10);
+        Recorder recorder = new Recorder(6);
+
+        subscriptions.add(bus.subscribe("replay", 4, recorder));
+
+        assertTrue(recorder.await());
+        assertEquals(List.of(4L, 5L, 6L, 7L, 8L, 9L), recorder.sequences());
+        assertEquals(0, recorder.lost.size());
+    }
+
+    @Test
+    void reportsOverwrittenEventsAsLost() throws InterruptedException {
+        ChangeEventBus bus = bus(8, 8);
+        publish(bus, 20);
+        Recorder recorder = new Recorder(8);
+
+        Subscription subscription = bus.subscribe("atrasado", 0, recorder);
+        subscriptions.add(subscription);
+
+        assertTrue(recorder.await());
+        assertEquals(List.of(List.of(0L, 11L)), recorder.lost);
+        assertEquals(LongStream.range(12, 20).boxed().toList(), recorder.sequences());
+        assertEquals(12, subscription.lost());
+    }
+
+    @Test
+    void keepsDeliveringAfterListenerFailure() throws InterruptedException {
+        ChangeEventBus bus = bus(16, 1);
+        CountDownLatch delivered = new CountDownLatch(3);
+        subscriptions.add(bus.subscribe("falha", events -> {
+            delivered.countDown();
+            if (events.get(0).sequence() == 0) {
+                throw new IllegalStateException("falha simulada");
+            }
+        }));
+
+        publish(bus, 3);
+
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void drainsPublishedEventsOnClose() {
+        ChangeEventBus bus = bus(64, 8);
+        Recorder recorder = new Recorder(20);
+        Subscription subscription = bus.subscribe("fechamento", recorder);
+
+        publish(bus, 20);
+        subscription.close();
+
+        assertEquals(LongStream.range(0, 20).boxed().toList(), recorder.sequences());
+        assertEquals(20, subscription.position());
+    }
+
+    private static ChangeEventBus bus(int capacity, int maxBatch) {
+        return new ChangeEventBus(new ChangeEventsConfig(true, capacity, maxBatch));
+    }
+
+    private static void publish(ChangeEventBus bus, int count) {
+        for (int i = 0; i < count; i++) {
+            bus.publish(ChangeEvent.Operation.UPDATE, "cursos", i, "curso " + i);
+        }
+    }
+
+    private static final class Recorder implements ChangeListener {
+
+        private final List<ChangeEvent<?>> events = new CopyOnWriteArrayList<>();
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        private final List<List<Long>> lost = new CopyOnWriteArrayList<>();
+        private final CountDownLatch expected;
+
+        private Recorder(int expected) {
+            this.expected = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void onEvents(List<ChangeEvent<?>> batch) {
+            batchSizes.add(batch.size());
+            events.addAll(batch);
+            batch.forEach(event -> expected.countDown());
+        }
+
+        @Override
+        public void onEventsLost(long fromSequence, long toSequence) {
+            lost.add(List.of(fromSequence, toSequence));
+        }
+
+        private boolean await() throws InterruptedException {
+            return expected.await(5, TimeUnit.SECONDS);
+        }
+
+        private List<Long> sequences() {
+            return events.stream().map(ChangeEvent::sequence).toList();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package me.pieralini.educationbase.loader;
+
+import me.pieralini.educationbase.model.Curso;
+import me.pieralini.educationbase.model.Faculdade;
+import me.pieralini.educationbase.model.Faculdade.TipoGraduacao;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BinaryCodecsTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 3, 10, 8, 30, 0, 250_000_000);
+    private static final LocalDateTime UPDATED = LocalDateTime.of(2024, 3, 11, 9, 45, 15);
+
+    @Test
+    void roundTripsCurso() {
+        Curso curso = new Curso(42, "Java Avançado", "Streams, records e virtual threads", "Alura",
+                CREATED, UPDATED, null);
+
+        assertEquals(curso, roundTrip(BinaryCodecs.CURSO, curso));
+    }
+
+    @Test
+    void roundTripsCursoWithNullFields() {
+        Curso curso = new Curso(null, "Sem descrição", null, "Udemy", null, null, null);
+
+        assertEquals(curso, roundTrip(BinaryCodecs.CURSO, curso));
+    }
+
+    @Test
+    void roundTripsFaculdade() {
+        Faculdade faculdade = new Faculdade(7, "Engenharia de Software", TipoGraduacao.BACHARELADO, 8,
+                CREATED, UPDATED, null);
+
+        assertEquals(faculdade, roundTrip(BinaryCodecs.FACULDADE, faculdade));
+    }
+
+    @Test
+    void roundTripsFaculdadeWithNullFields() {
+        Faculdade faculdade = new Faculdade(8, "Gestão", null, null, CREATED, null, null);
+
+        assertEquals(faculdade, roundTrip(BinaryCodecs.FACULDADE, faculdade));
+    }
+
+    @Test
+    void doesNotCarryTheRowVersion() {
+        Curso curso = new Curso(1, "Git", "Controle de versão", "Alura", CREATED, UPDATED, 5L);
+
+        assertEquals(curso.toBuilder().version(null).build(), roundTrip(BinaryCodecs.CURSO, curso));
+    }
+
+    private static <T> T roundTrip(BinaryCodec<T> codec, T entity) {
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        codec.encode(entity, buffer);
+        buffer.flip();
+        T decoded = codec.decode(buffer);
+        assertEquals(0, buffer.remaining());
+        return decoded;
+    }
+}
@@ -0,0 +1,78 @@
+package me.pieralini.educationbase.loader;
+
+import me.pieralini.educationbase.model.Faculdade.TipoGraduacao;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BinaryFormatTest {
+
+    @Test
+    void roundTripsValuesAndNulls() {
+        LocalDateTime timestamp = LocalDateTime.of(2024, 2, 29, 23, 59, 58, 123_456_000);
+        LocalDateTime beforeEpoch = LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_999_000);
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        BinaryFormat.putString(buffer, "Programação");
+        BinaryFormat.putString(buffer, "");
+        BinaryFormat.putString(buffer, null);
+        BinaryFormat.putInteger(buffer, -7);
+        BinaryFormat.putInteger(buffer, null);
+        BinaryFormat.putTimestamp(buffer, timestamp);
+        BinaryFormat.putTimestamp(buffer, beforeEpoch);
+        BinaryFormat.putTimestamp(buffer, null);
+        BinaryFormat.putEnum(buffer, TipoGraduacao.TECNOLOGO);
+        BinaryFormat.putEnum(buffer, null);
+        buffer.flip();
+
+        assertEquals("Programação", BinaryFormat.getString(buffer));
+        assertEquals("", BinaryFormat.getString(buffer));
+        assertNull(BinaryFormat.getString(buffer));
+        assertEquals(-7, BinaryFormat.getInteger(buffer));
+        assertNull(BinaryFormat.getInteger(buffer));
+        assertEquals(timestamp, BinaryFormat.getTimestamp(buffer));
+        assertEquals(beforeEpoch, BinaryFormat.getTimestamp(buffer));
+        assertNull(BinaryFormat.getTimestamp(buffer));
+        assertEquals(TipoGraduacao.TECNOLOGO, BinaryFormat.getEnum(buffer, TipoGraduacao.class));
+        assertNull(BinaryFormat.getEnum(buffer, TipoGraduacao.class));
+        assertEquals(0, buffer.remaining());
+    }
+
+    @Test
+    void truncatesTimestampsToMicroseconds() {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+        BinaryFormat.putTimestamp(buffer, LocalDateTime.of(2024, 1, 1, 0, 0, 0, 123_456_789));
+        buffer.flip();
+
+        assertEquals(LocalDateTime.of(2024, 1, 1, 0, 0, 0, 123_456_000), BinaryFormat.getTimestamp(buffer));
+    }
+
+    @Test
+    void checksumMatchesCrc32cAndLeavesBufferUntouched() {
+        ByteBuffer data = ByteBuffer.wrap("123456789".getBytes(StandardCharsets.US_ASCII));
+
+        assertEquals(0xE3069283, BinaryFormat.checksum(data));
+        assertEquals(0, data.position());
+    }
+
+    @Test
+    void verifyRejectsCorruptedData() {
+        byte[] bytes = "bloco de dados".getBytes(StandardCharsets.UTF_8);
+        int checksum = BinaryFormat.checksum(ByteBuffer.wrap(bytes));
+        assertDoesNotThrow(() -> BinaryFormat.verify(ByteBuffer.wrap(bytes), checksum, "bloco"));
+
+        bytes[3] ^= 1;
+        assertNotEquals(checksum, BinaryFormat.checksum(ByteBuffer.wrap(bytes)));
+        IOException error = assertThrows(IOException.class,
+                () -> BinaryFormat.verify(ByteBuffer.wrap(bytes), checksum, "bloco 0"));
+        assertEquals("Checksum inválido em bloco 0", error.getMessage());
+    }
+}
@@ -0,0 +1,135 @@
+package me.pieralini.educationbase.loader;
+
+import me.pieralini.educationbase.model.Curso;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryReaderTest {
+
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void readsBackEveryRecordAcrossBlocks() throws IOException {
+        Path file = dir.resolve("cursos.bin");
+        List<Curso> cursos = cursos(5_000);
+        long written = write(file, cursos);
+
+        try (BinaryReader<Curso> reader = BinaryReader.open(file, BinaryCodecs.CURSO)) {
+            assertEquals(cursos.size(), written);
+            assertEquals(cursos, reader.readAll());
+        }
+        assertTrue(Files.size(file) > BinaryFormat.DEFAULT_BLOCK_SIZE);
+    }
+
+    @Test
+    void growsTheBlockForRecordsLargerThanTheDefaultBlock() throws IOException {
+        Path file = dir.resolve("grande.bin");
+        Curso grande = new Curso(1, "Grande", "x".repeat(3 * BinaryFormat.DEFAULT_BLOCK_SIZE), "Alura",
+                TIMESTAMP, TIMESTAMP, null);
+        write(file, List.of(grande));
+
+        try (BinaryReader<Curso> reader = BinaryReader.open(file, BinaryCodecs.CURSO)) {
+            assertEquals(List.of(grande), reader.readAll());
+        }
+    }
+
+    @Test
+    void readsAnEmptyFile() throws IOException {
+        Path file = dir.resolve("vazio.bin");
+        write(file, List.of());
+
+        try (BinaryReader<Curso> reader = BinaryReader.open(file, BinaryCodecs.CURSO)) {
+            assertEquals(0, reader.forEach(curso -> {}));
+        }
+    }
+
+    @Test
+    void rejectsCorruptedBlock() throws IOException {
+        Path file = dir.resolve("corrompido.bin");
+        write(file, cursos(10));
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - BinaryFormat.BLOCK_HEADER_SIZE - 5] ^= 0x40;
+        Files.write(file, bytes);
+
+        try (BinaryReader<Curso> reader = BinaryReader.open(file, BinaryCodecs.CURSO)) {
+            IOException error = assertThrows(IOException.class, reader::readAll);
+            assertTrue(error.getMessage().startsWith("Checksum inválido em bloco 0"), error.getMessage());
+        }
+    }
+
+    @Test
+    void rejectsTruncatedFile() throws IOException {
+        Path file = dir.resolve("truncado.bin");
+        write(file, cursos(10));
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - BinaryFormat.BLOCK_HEADER_SIZE));
+
+        try (BinaryReader<Curso> reader = BinaryReader.open(file, BinaryCodecs.CURSO)) {
+            IOException error = assertThrows(IOException.class, reader::readAll);
+            assertTrue(error.getMessage().startsWith("Arquivo binário truncado"), error.getMessage());
+        }
+    }
+
+    @Test
+    void rejectsCorruptedHeader() throws IOException {
+        Path file = dir.resolve("cabecalho.bin");
+        write(file, cursos(1));
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[3 * Integer.BYTES + Integer.BYTES] ^= 0x01;
+        Files.write(file, bytes);
+
+        IOException error = assertThrows(IOException.class, () -> BinaryReader.open(file, BinaryCodecs.CURSO));
+        assertTrue(error.getMessage().startsWith("Checksum inválido em cabeçalho"), error.getMessage());
+    }
+
+    @Test
+    void rejectsFileWrittenForAnotherType() throws IOException {
+        Path file = dir.resolve("cursos.bin");
+        write(file, cursos(1));
+
+        IOException error = assertThrows(IOException.class, () -> BinaryReader.open(file, BinaryCodecs.FACULDADE));
+        assertTrue(error.getMessage().startsWith("Esquema incompatível"), error.getMessage());
+    }
+
+    @Test
+    void rejectsFileWithoutMagic() throws IOException {
+        Path file = dir.resolve("texto.bin");
+        Files.writeString(file, "[{\"id\": 1}]");
+
+        IOException error = assertThrows(IOException.class, () -> BinaryReader.open(file, BinaryCodecs.CURSO));
+        assertTrue(error.getMessage().startsWith("Arquivo binário inválido"), error.getMessage());
+    }
+
+    private static long write(Path file, List<Curso> cursos) throws IOException {
+        try (BinaryWriter<Curso> writer = BinaryWriter.open(file, BinaryCodecs.CURSO)) {
+            for (Curso curso : cursos) {
+                writer.write(curso);
+            }
+            return writer.getWritten();
+        }
+    }
+
+    private static List<Curso> cursos(int count) {
+        List<Curso> cursos = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            cursos.add(new Curso(i, "Curso " + i, i % 3 == 0 ? null : "Descrição do curso " + i,
+                    i % 2 == 0 ? "Alura" : "Udemy", TIMESTAMP.plusSeconds(i), TIMESTAMP.plusMinutes(i), null));
+        }
+        return cursos;
+    }
+}
@@ -0,0 +1,103 @@
+package me.pieralini.educationbase.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void reportsZerosWhenEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0.0, histogram.getMeanMillis());
+        assertEquals(0.0, histogram.getMaxMillis());
+        assertEquals(0.0, histogram.getPercentileMillis(99));
+    }
+
+    @Test
+    void tracksCountTotalMeanAndMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(1));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(3));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(8));
+
+        assertEquals(3, histogram.getCount());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(12), histogram.getTotalNanos());
+        assertEquals(4.0, histogram.getMeanMillis(), 1e-9);
+        assertEquals(8.0, histogram.getMaxMillis(), 1e-9);
+    }
+
+    @Test
+    void reportsPercentilesAsPowerOfTwoMicrosecondBounds() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int micros = 1; micros <= 1000; micros++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(micros));
+        }
+
+        assertEquals(0.002, histogram.getPercentileMillis(0.1), 1e-9);
+        assertEquals(0.512, histogram.getPercentileMillis(50), 1e-9);
+        assertEquals(1.024, histogram.getPercentileMillis(99), 1e-9);
+        assertEquals(1.024, histogram.getPercentileMillis(100), 1e-9);
+    }
+
+    @Test
+    void percentileBoundIsWithinFactorOfTwo() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        long nanos = TimeUnit.MICROSECONDS.toNanos(1500);
+        histogram.record(nanos);
+
+        double p50 = histogram.getPercentileMillis(50);
+        assertEquals(2.048, p50, 1e-9);
+        assertTrue(p50 >= 1.5 && p50 < 3.0);
+    }
+
+    @Test
+    void placesSubMicrosecondAndHugeSamplesInEdgeBuckets() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(500);
+        assertEquals(0.001, histogram.getPercentileMillis(100), 1e-9);
+
+        histogram.record(TimeUnit.DAYS.toNanos(365));
+        assertEquals((1L << 39) / 1000.0, histogram.getPercentileMillis(100), 1e-9);
+    }
+
+    @Test
+    void resetClearsEverything() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(5));
+
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getTotalNanos());
+        assertEquals(0.0, histogram.getMaxMillis());
+        assertEquals(0.0, histogram.getPercentileMillis(50));
+    }
+
+    @Test
+    void countsConcurrentRecordsExactly() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(TimeUnit.MICROSECONDS.toNanos(100));
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(80_000, histogram.getCount());
+        assertEquals(80_000 * TimeUnit.MICROSECONDS.toNanos(100), histogram.getTotalNanos());
+        assertEquals(0.128, histogram.getPercentileMillis(50), 1e-9);
+    }
+}
@@ -0,0 +1,67 @@
+package me.pieralini.educationbase.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeadlineTest {
+
+    @Test
+    void reportsRemainingTime() {
+        Deadline deadline = Deadline.after(Duration.ofMinutes(1));
+
+        assertFalse(deadline.isExpired());
+        assertTrue(deadline.remainingMillis() > 59_000 && deadline.remainingMillis() <= 60_000);
+    }
+
+    @Test
+    void expiredDeadlineHasNoRemainingTime() {
+        Deadline deadline = Deadline.after(Duration.ofMillis(-1));
+
+        assertTrue(deadline.isExpired());
+        assertEquals(0, deadline.remainingMillis());
+        DeadlineExceededException error = assertThrows(DeadlineExceededException.class, deadline::check);
+        assertEquals("Prazo da operação esgotado", error.getMessage());
+    }
+
+    @Test
+    void runInstallsDeadlineOnlyForTheOperation() {
+        Deadline deadline = Deadline.after(Duration.ofMinutes(1));
+
+        Optional<Deadline> inside = deadline.run(Deadline::current);
+
+        assertSame(deadline, inside.orElseThrow());
+        assertTrue(Deadline.current().isEmpty());
+    }
+
+    @Test
+    void nestedRunKeepsTheTighterDeadline() {
+        Deadline outer = Deadline.after(Duration.ofSeconds(1));
+        Deadline looser = Deadline.after(Duration.ofMinutes(1));
+        Deadline tighter = Deadline.after(Duration.ofMillis(500));
+
+        outer.run(() -> {
+            assertSame(outer, looser.run(() -> Deadline.current().orElseThrow()));
+            assertSame(tighter, tighter.run(() -> Deadline.current().orElseThrow()));
+            assertSame(outer, Deadline.current().orElseThrow());
+            return null;
+        });
+    }
+
+    @Test
+    void runRejectsExpiredDeadlineWithoutRunningOperation() {
+        Deadline deadline = Deadline.after(Duration.ZERO);
+
+        assertThrows(DeadlineExceededException.class, () -> deadline.run(() -> {
+            throw new AssertionError("operação não deveria executar");
+        }));
+        assertTrue(Deadline.current().isEmpty());
+    }
+}
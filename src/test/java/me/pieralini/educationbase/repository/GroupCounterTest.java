@@ -0,0 +1,104 @@
+package me.pieralini.educationbase.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GroupCounterTest {
+
+    @Test
+    void ignoresChangesBeforeFirstBuild() {
+        GroupCounter<Integer, String> counter = new GroupCounter<>();
+        counter.put(1, "Udemy");
+        counter.remove(2);
+
+        assertFalse(counter.isReady());
+        assertEquals(Map.of(), counter.counts());
+    }
+
+    @Test
+    void countsLoadedKeys() {
+        GroupCounter<Integer, String> counter = built(Map.of(1, "Udemy", 2, "Alura", 3, "Udemy"));
+
+        assertTrue(counter.isReady());
+        assertEquals(3, counter.total());
+        assertEquals(Map.of("Udemy", 2L, "Alura", 1L), counter.counts());
+    }
+
+    @Test
+    void putMovesAnExistingIdBetweenGroups() {
+        GroupCounter<Integer, String> counter = built(Map.of(1, "Udemy", 2, "Alura"));
+
+        counter.put(1, "Alura");
+        counter.put(3, "Coursera");
+
+        assertEquals(3, counter.total());
+        assertEquals(Map.of("Alura", 2L, "Coursera", 1L), counter.counts());
+    }
+
+    @Test
+    void removeDropsEmptyGroupsAndIgnoresUnknownIds() {
+        GroupCounter<Integer, String> counter = built(Map.of(1, "Udemy", 2, "Alura"));
+
+        counter.remove(1);
+        counter.remove(42);
+
+        assertEquals(1, counter.total());
+        assertEquals(Map.of("Alura", 1L), counter.counts());
+    }
+
+    @Test
+    void replaysChangesMadeDuringRebuild() {
+        GroupCounter<Integer, String> counter = built(Map.of(1, "Udemy"));
+
+        counter.beginRebuild();
+        counter.put(2, "Alura");
+        counter.remove(1);
+        counter.completeRebuild(new HashMap<>(Map.of(1, "Udemy", 3, "Udemy")));
+
+        assertEquals(Map.of("Udemy", 1L, "Alura", 1L), counter.counts());
+    }
+
+    @Test
+    void abortedRebuildKeepsCountsAndAppliesPendingChanges() {
+        GroupCounter<Integer, String> counter = built(Map.of(1, "Udemy"));
+
+        counter.beginRebuild();
+        counter.put(2, "Alura");
+        counter.abortRebuild();
+
+        assertTrue(counter.isReady());
+        assertEquals(Map.of("Udemy", 1L, "Alura", 1L), counter.counts());
+    }
+
+    @Test
+    void claimsRefreshOnlyOncePerMaxAge() throws InterruptedException {
+        GroupCounter<Integer, String> counter = new GroupCounter<>();
+        assertFalse(counter.claimRefresh(1));
+
+        counter = built(Map.of(1, "Udemy"));
+        assertFalse(counter.claimRefresh(0));
+        assertFalse(counter.claimRefresh(TimeUnit.HOURS.toNanos(1)));
+
+        Thread.sleep(5);
+        assertTrue(counter.claimRefresh(TimeUnit.MILLISECONDS.toNanos(1)));
+        assertFalse(counter.claimRefresh(TimeUnit.HOURS.toNanos(1)));
+
+        counter.beginRebuild();
+        Thread.sleep(5);
+        assertFalse(counter.claimRefresh(TimeUnit.MILLISECONDS.toNanos(1)));
+    }
+
+    private static GroupCounter<Integer, String> built(Map<Integer, String> keys) {
+        GroupCounter<Integer, String> counter = new GroupCounter<>();
+        counter.beginRebuild();
+        counter.completeRebuild(new HashMap<>(keys));
+        return counter;
+    }
+}
@@ -0,0 +1,55 @@
+package me.pieralini.educationbase.repository;
+
+import me.pieralini.educationbase.model.Faculdade.TipoGraduacao;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class NaturalKeyTest {
+
+    private record Item(String nome, String plataforma, String descricao, TipoGraduacao tipo) {}
+
+    private static final NaturalKey<Item> KEY = new NaturalKey<>(
+            List.of("nome", "plataforma"), item -> Arrays.asList(item.nome(), item.plataforma()),
+            List.of("nome", "descricao", "tipo"), item -> Arrays.asList(item.nome(), item.descricao(), item.tipo()));
+
+    @Test
+    void joinsKeyValuesWithUnitSeparator() {
+        assertEquals("Java\u001FAlura", KEY.keyOf(new Item("Java", "Alura", null, null)));
+        assertEquals("Java\u001F", KEY.keyOf(new Item("Java", null, null, null)));
+    }
+
+    @Test
+    void writesEnumsByName() {
+        assertEquals("a\u001F\u001FBACHARELADO", NaturalKey.join(Arrays.asList("a", null, TipoGraduacao.BACHARELADO)));
+    }
+
+    @Test
+    void separatorKeepsAdjacentValuesDistinct() {
+        assertNotEquals(KEY.keyOf(new Item("ab", "c", null, null)), KEY.keyOf(new Item("a", "bc", null, null)));
+    }
+
+    @Test
+    void hashesContentAsSha256OfJoinedValues() {
+        Item item = new Item("Java", "Alura", "Curso completo", TipoGraduacao.TECNOLOGO);
+
+        assertEquals(64, KEY.contentHashOf(item).length());
+        assertEquals(KEY.contentHashOf(item), KEY.contentHashOf(new Item("Java", "Udemy", "Curso completo",
+                TipoGraduacao.TECNOLOGO)));
+        assertNotEquals(KEY.contentHashOf(item), KEY.contentHashOf(new Item("Java", "Alura", "Curso resumido",
+                TipoGraduacao.TECNOLOGO)));
+        assertEquals("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855",
+                new NaturalKey<Item>(List.of(), entity -> List.of(), List.of(), entity -> List.of()).contentHashOf(item));
+    }
+
+    @Test
+    void buildsMatchingSqlHashExpression() {
+        assertEquals("SHA2(CONCAT_WS(CHAR(31 USING utf8mb4), CONVERT(IFNULL(nome, '') USING utf8mb4), "
+                        + "CONVERT(IFNULL(descricao, '') USING utf8mb4), CONVERT(IFNULL(tipo, '') USING utf8mb4)), 256)",
+                KEY.contentHashSql());
+    }
+}
@@ -0,0 +1,139 @@
+package me.pieralini.educationbase.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchIndexTest {
+
+    private record Item(Integer id, String nome) {}
+
+    @Test
+    void normalizesAccentsAndCase() {
+        assertEquals("programacao avancada", SearchIndex.normalize("Programação AVANÇADA"));
+        assertEquals("", SearchIndex.normalize(null));
+    }
+
+    @Test
+    void ignoresWritesUntilFirstBuild() {
+        SearchIndex<Item> index = index();
+        index.put(new Item(1, "Java"));
+
+        assertFalse(index.isReady());
+        assertEquals(0, index.size());
+
+        index.beginRebuild();
+        index.completeRebuild(List.of(new Item(2, "Python")));
+
+        assertTrue(index.isReady());
+        assertEquals(List.of(2), ids(index.search("python", 10)));
+    }
+
+    @Test
+    void findsSubstringsIgnoringAccentsAndCase() {
+        SearchIndex<Item> index = built(
+                new Item(1, "Lógica de Programação"),
+                new Item(2, "Programação Funcional"),
+                new Item(3, "Banco de Dados"));
+
+        assertEquals(List.of(2, 1), ids(index.search("PROGRAMACAO", 10)));
+        assertEquals(List.of(3), ids(index.search("dados", 10)));
+        assertEquals(List.of(), ids(index.search("kotlin", 10)));
+        assertEquals(List.of(), ids(index.search("gramacao de", 10)));
+    }
+
+    @Test
+    void scansAllDocumentsForShortQueries() {
+        SearchIndex<Item> index = built(new Item(1, "Go"), new Item(2, "Django"), new Item(3, "Rust"));
+
+        assertEquals(List.of(1, 2), ids(index.search("go", 10)));
+        assertEquals(List.of(1, 3, 2), ids(index.search("", 10)));
+    }
+
+    @Test
+    void ranksByPositionThenLengthThenId() {
+        SearchIndex<Item> index = built(
+                new Item(4, "Curso de Java"),
+                new Item(3, "Java Web"),
+                new Item(2, "Java Básico Completo"),
+                new Item(1, "Java Web"));
+
+        assertEquals(List.of(1, 3, 2, 4), ids(index.search("java", 10)));
+        assertEquals(List.of(1, 3), ids(index.search("java", 2)));
+    }
+
+    @Test
+    void putReplacesPreviousText() {
+        SearchIndex<Item> index = built(new Item(1, "Spring Boot"));
+
+        index.put(new Item(1, "Quarkus"));
+
+        assertEquals(List.of(), ids(index.search("spring", 10)));
+        assertEquals(List.of(1), ids(index.search("quarkus", 10)));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void removeDropsDocument() {
+        SearchIndex<Item> index = built(new Item(1, "Docker"), new Item(2, "Docker Compose"));
+
+        index.remove(1);
+
+        assertEquals(List.of(2), ids(index.search("docker", 10)));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void replaysWritesMadeDuringRebuild() {
+        SearchIndex<Item> index = built(new Item(1, "Kafka"));
+
+        index.beginRebuild();
+        index.put(new Item(2, "Kafka Streams"));
+        index.remove(1);
+        index.completeRebuild(List.of(new Item(1, "Kafka"), new Item(3, "RabbitMQ")));
+
+        assertEquals(List.of(2), ids(index.search("kafka", 10)));
+        assertEquals(List.of(3), ids(index.search("rabbit", 10)));
+    }
+
+    @Test
+    void abortedRebuildKeepsIndexAndAppliesPendingWrites() {
+        SearchIndex<Item> index = built(new Item(1, "Redis"));
+
+        index.beginRebuild();
+        index.put(new Item(2, "Redis Cluster"));
+        index.abortRebuild();
+
+        assertTrue(index.isReady());
+        assertEquals(List.of(1, 2), ids(index.search("redis", 10)));
+    }
+
+    @Test
+    void skipsEntitiesWithoutId() {
+        SearchIndex<Item> index = built(new Item(null, "Sem id"), new Item(1, "Com id"));
+
+        index.put(new Item(null, "Outro sem id"));
+
+        assertEquals(1, index.size());
+        assertEquals(List.of(1), ids(index.search("id", 10)));
+    }
+
+    private static SearchIndex<Item> index() {
+        return new SearchIndex<>(Item::id, Item::nome);
+    }
+
+    private static SearchIndex<Item> built(Item... items) {
+        SearchIndex<Item> index = index();
+        index.beginRebuild();
+        index.completeRebuild(List.of(items));
+        return index;
+    }
+
+    private static List<Integer> ids(List<Item> items) {
+        return items.stream().map(Item::id).toList();
+    }
+}